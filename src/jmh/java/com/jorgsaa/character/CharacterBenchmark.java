@@ -0,0 +1,122 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import com.jorgsaa.report.ReportRenderer;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CharacterBenchmark {
+
+    public enum Gear {
+        NONE,
+        ARMOR,
+        FULL
+    }
+
+    @Param({"Mage", "Ranger", "Rogue", "Warrior"})
+    private String characterClass;
+
+    @Param({"1", "10", "50"})
+    private int level;
+
+    @Param({"NONE", "ARMOR", "FULL"})
+    private Gear gear;
+
+    private Character character;
+    private Armor armor;
+    private Weapon weapon;
+    private final ReportRenderer renderer = new ReportRenderer();
+    private final StringBuilder report = new StringBuilder(512);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        character = newCharacter(characterClass);
+        character.setLevel(level);
+
+        ArmorType armorType = character.getValidArmorTypes().get(0);
+        WeaponType weaponType = character.getValidWeaponTypes().get(0);
+        armor = new Armor("Benchmark body", 1, Slot.BODY, armorType, PrimaryAttribute.of(3, 3, 3));
+        weapon = new Weapon("Benchmark weapon", 1, weaponType, 7d, 1.1);
+
+        if (gear != Gear.NONE) {
+            character.equip(new Armor("Benchmark head", 1, Slot.HEAD, armorType, PrimaryAttribute.of(1, 2, 3)));
+            character.equip(new Armor("Benchmark legs", 1, Slot.LEGS, armorType, PrimaryAttribute.of(2, 1, 2)));
+            character.equip(armor);
+        }
+        if (gear == Gear.FULL)
+            character.equip(weapon);
+    }
+
+    @Benchmark
+    public PrimaryAttribute getTotalPrimaryAttributes() {
+        return character.getTotalPrimaryAttributes();
+    }
+
+    @Benchmark
+    public PrimaryAttribute getEquippedArmorAttributes() {
+        return character.getEquippedArmorAttributes();
+    }
+
+    @Benchmark
+    public Double getEquippedWeaponDPS() {
+        return character.getEquippedWeaponDPS();
+    }
+
+    @Benchmark
+    public Double getDPS() {
+        return character.getDPS();
+    }
+
+    @Benchmark
+    public double dpsAsDouble() {
+        return character.dpsAsDouble();
+    }
+
+    @Benchmark
+    public Character equipArmor() {
+        character.equip(armor);
+        return character;
+    }
+
+    @Benchmark
+    public Character equipWeapon() {
+        character.equip(weapon);
+        return character;
+    }
+
+    @Benchmark
+    public String toStringBenchmark() {
+        return character.toString();
+    }
+
+    @Benchmark
+    public StringBuilder renderReport() throws IOException {
+        report.setLength(0);
+        renderer.render(character, report);
+        return report;
+    }
+
+    private static Character newCharacter(String characterClass) {
+        return switch (characterClass) {
+            case "Mage" -> new Mage("Benchmark mage");
+            case "Ranger" -> new Ranger("Benchmark ranger");
+            case "Rogue" -> new Rogue("Benchmark rogue");
+            case "Warrior" -> new Warrior("Benchmark warrior");
+            default -> throw new IllegalArgumentException(characterClass);
+        };
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.CharacterClass;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttributeKernelBenchmark {
+
+    @Param({"scalar", "vector"})
+    private String kernelName;
+
+    @Param({"4096"})
+    private int population;
+
+    private AttributeKernel kernel;
+    private AttributeColumns[] inputs;
+    private AttributeColumns totals;
+    private int[] classIds;
+    private double[] multipliers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        kernel = kernelName.equals("vector") ? AttributeKernel.best() : AttributeKernel.scalar();
+        if (!kernel.getName().equals(kernelName))
+            throw new IllegalStateException("Kernel unavailable: " + kernelName);
+
+        final Random random = new Random(1);
+        inputs = new AttributeColumns[4];
+        for (int column = 0; column < inputs.length; column++) {
+            inputs[column] = new AttributeColumns(population);
+            for (int i = 0; i < population; i++)
+                inputs[column].set(i, PrimaryAttribute.of(random.nextInt(100), random.nextInt(100), random.nextInt(100)));
+        }
+        totals = new AttributeColumns(population);
+        classIds = new int[population];
+        for (int i = 0; i < population; i++)
+            classIds[i] = random.nextInt(CharacterClass.values().length);
+        multipliers = new double[population];
+    }
+
+    @Benchmark
+    public double[] totalsAndMultipliers() {
+        kernel.sum(inputs, totals, population);
+        kernel.damageMultipliers(totals, classIds, multipliers, population);
+        return multipliers;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.jorgsaa.codec;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CodecBenchmark {
+
+    private Character character;
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        character = new Warrior("Benchmark warrior");
+        character.setLevel(20);
+        character.equip(new Armor("Plate helm", 10, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(5, 1, 0)));
+        character.equip(new Armor("Plate body", 10, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(9, 2, 0)));
+        character.equip(new Armor("Plate legs", 10, Slot.LEGS, ArmorType.PLATE, PrimaryAttribute.of(7, 1, 0)));
+        character.equip(new Weapon("Steel axe", 10, WeaponType.AXE, 10d, 1.3d));
+        buffer = ByteBuffer.allocate(CharacterCodec.encodedSize(character));
+    }
+
+    @Benchmark
+    public ByteBuffer encode() {
+        buffer.clear();
+        CharacterCodec.encode(character, buffer);
+        return buffer;
+    }
+
+    @Benchmark
+    public Character roundTrip() {
+        buffer.clear();
+        CharacterCodec.encode(character, buffer);
+        buffer.flip();
+        return CharacterCodec.decode(buffer);
+    }
+
+}
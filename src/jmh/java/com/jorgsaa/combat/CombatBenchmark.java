@@ -0,0 +1,39 @@
+package com.jorgsaa.combat;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatBenchmark {
+
+    private static final int FIGHTS = 1_000_000;
+
+    private CombatSimulator simulator;
+    private Combatant warrior;
+    private Combatant mage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulator = new CombatSimulator(1);
+        warrior = new Combatant("Warrior", 7.7, 1.1, 200);
+        mage = new Combatant("Mage", 6.5, 1.5, 160);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        simulator.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FIGHTS)
+    public MatchupResult simulate() {
+        return simulator.simulate(warrior, mage, FIGHTS);
+    }
+
+}
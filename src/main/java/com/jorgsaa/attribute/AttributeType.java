@@ -0,0 +1,23 @@
+package com.jorgsaa.attribute;
+
+public enum AttributeType {
+    STRENGTH,
+    DEXTERITY,
+    INTELLIGENCE;
+
+    public int of(PrimaryAttribute attribute) {
+        return of(attribute.strength(), attribute.dexterity(), attribute.intelligence());
+    }
+
+    public int of(PrimaryAttributeAccumulator attribute) {
+        return of(attribute.strength(), attribute.dexterity(), attribute.intelligence());
+    }
+
+    public int of(int strength, int dexterity, int intelligence) {
+        return switch (this) {
+            case STRENGTH -> strength;
+            case DEXTERITY -> dexterity;
+            case INTELLIGENCE -> intelligence;
+        };
+    }
+}
@@ -1,9 +1,13 @@
 package com.jorgsaa.attribute;
 
-public record PrimaryAttribute(Integer strength, Integer dexterity,
-                               Integer intelligence) {
+import java.util.Locale;
 
-    public static PrimaryAttribute of(Integer strength, Integer dexterity, Integer intelligence) {
+public record PrimaryAttribute(int strength, int dexterity,
+                               int intelligence) {
+
+    public static final PrimaryAttribute ZERO = new PrimaryAttribute(0, 0, 0);
+
+    public static PrimaryAttribute of(int strength, int dexterity, int intelligence) {
         return new PrimaryAttribute(strength, dexterity, intelligence);
     }
 
@@ -15,7 +19,15 @@ public record PrimaryAttribute(Integer strength, Integer dexterity,
         );
     }
 
-    public PrimaryAttribute multiply(Integer multiplier) {
+    public PrimaryAttribute subtract(PrimaryAttribute other) {
+        return of(
+                strength - other.strength,
+                dexterity - other.dexterity,
+                intelligence - other.intelligence
+        );
+    }
+
+    public PrimaryAttribute multiply(int multiplier) {
         return of(
                 strength * multiplier,
                 dexterity * multiplier,
@@ -25,7 +37,7 @@ public record PrimaryAttribute(Integer strength, Integer dexterity,
 
     @Override
     public String toString() {
-        return String.format("[ Strength: %3d Dexterity: %3d Intelligence: %3d ]", strength, dexterity, intelligence);
+        return String.format(Locale.ROOT, "[ Strength: %3d Dexterity: %3d Intelligence: %3d ]", strength, dexterity, intelligence);
     }
 
 }
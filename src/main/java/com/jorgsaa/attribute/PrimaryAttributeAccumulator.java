@@ -0,0 +1,83 @@
+package com.jorgsaa.attribute;
+
+/**
+ * Mutable counterpart of {@link PrimaryAttribute} for summing attributes in place.
+ * Not thread-safe; intended to be confined to a single owner.
+ */
+public final class PrimaryAttributeAccumulator {
+
+    private int strength;
+    private int dexterity;
+    private int intelligence;
+
+    public PrimaryAttributeAccumulator() {
+    }
+
+    public PrimaryAttributeAccumulator(PrimaryAttribute initial) {
+        set(initial);
+    }
+
+    public PrimaryAttributeAccumulator set(PrimaryAttribute attribute) {
+        return set(attribute.strength(), attribute.dexterity(), attribute.intelligence());
+    }
+
+    public PrimaryAttributeAccumulator set(int strength, int dexterity, int intelligence) {
+        this.strength = strength;
+        this.dexterity = dexterity;
+        this.intelligence = intelligence;
+        return this;
+    }
+
+    public PrimaryAttributeAccumulator add(PrimaryAttribute attribute) {
+        return add(attribute.strength(), attribute.dexterity(), attribute.intelligence());
+    }
+
+    public PrimaryAttributeAccumulator add(PrimaryAttributeAccumulator other) {
+        return add(other.strength, other.dexterity, other.intelligence);
+    }
+
+    public PrimaryAttributeAccumulator add(int strength, int dexterity, int intelligence) {
+        this.strength += strength;
+        this.dexterity += dexterity;
+        this.intelligence += intelligence;
+        return this;
+    }
+
+    public PrimaryAttributeAccumulator subtract(PrimaryAttribute attribute) {
+        return add(-attribute.strength(), -attribute.dexterity(), -attribute.intelligence());
+    }
+
+    public PrimaryAttributeAccumulator addMultiplied(PrimaryAttribute attribute, int multiplier) {
+        return add(
+                attribute.strength() * multiplier,
+                attribute.dexterity() * multiplier,
+                attribute.intelligence() * multiplier
+        );
+    }
+
+    public PrimaryAttributeAccumulator clear() {
+        return set(0, 0, 0);
+    }
+
+    public int strength() {
+        return strength;
+    }
+
+    public int dexterity() {
+        return dexterity;
+    }
+
+    public int intelligence() {
+        return intelligence;
+    }
+
+    public PrimaryAttribute toPrimaryAttribute() {
+        return PrimaryAttribute.of(strength, dexterity, intelligence);
+    }
+
+    @Override
+    public String toString() {
+        return toPrimaryAttribute().toString();
+    }
+
+}
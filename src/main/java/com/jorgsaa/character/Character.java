@@ -1,29 +1,50 @@
 package com.jorgsaa.character;
 
 import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.attribute.PrimaryAttributeAccumulator;
+import com.jorgsaa.item.EquipResult;
 import com.jorgsaa.item.Item;
-import com.jorgsaa.item.ItemExceptionType;
 import com.jorgsaa.item.Slot;
 import com.jorgsaa.item.armor.Armor;
 import com.jorgsaa.item.armor.ArmorType;
-import com.jorgsaa.item.armor.InvalidArmorException;
-import com.jorgsaa.item.weapon.InvalidWeaponException;
 import com.jorgsaa.item.weapon.Weapon;
 import com.jorgsaa.item.weapon.WeaponType;
+import com.jorgsaa.jfr.EquipEvent;
+import com.jorgsaa.jfr.LevelChangeEvent;
+import com.jorgsaa.jfr.RecomputeEvent;
+import com.jorgsaa.metrics.CharacterMetrics;
 
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 
-public abstract class Character {
+public abstract class Character implements CharacterView {
+
+    private static final CharacterListener[] NO_LISTENERS = new CharacterListener[0];
 
     private final String name;
     private final EnumMap<Slot, Item> equipment = new EnumMap<>(Slot.class);
     private Integer level = 1;
 
+    // Cached stats, maintained by delta on equip and level changes
+    private final PrimaryAttributeAccumulator armorSum = new PrimaryAttributeAccumulator();
+    private final PrimaryAttributeAccumulator totalSum = new PrimaryAttributeAccumulator();
+    private boolean totalSumValid;
+    private PrimaryAttribute armorAttributes = PrimaryAttribute.ZERO;
+    private PrimaryAttribute totalAttributes;
+    private double weaponDPS = 1;
+    private double dps;
+    private boolean dpsValid;
+
+    private CharacterListener[] listeners = NO_LISTENERS;
+
     protected Character(String name) {
         this.name = name;
     }
 
+    public abstract CharacterClass getCharacterClass();
+
     public abstract PrimaryAttribute getBasePrimaryAttributes();
 
     public abstract PrimaryAttribute getGainedPrimaryAttributes();
@@ -32,60 +53,132 @@ public abstract class Character {
 
     public abstract List<WeaponType> getValidWeaponTypes();
 
-    protected abstract Double getCharacterDamageMultiplier();
+    protected abstract double characterDamageMultiplierAsDouble();
+
+    protected Double getCharacterDamageMultiplier() {
+        return characterDamageMultiplierAsDouble();
+    }
 
     public PrimaryAttribute getTotalPrimaryAttributes() {
-        return getBasePrimaryAttributes()
-                .add(getGainedPrimaryAttributes())
-                .add(getEquippedArmorAttributes());
+        if (totalAttributes == null) {
+            final RecomputeEvent event = new RecomputeEvent();
+            event.begin();
+            totalAttributes = getTotalPrimaryAttributeSum().toPrimaryAttribute();
+            event.commit(name, getCharacterClass().name(), RecomputeEvent.TOTAL_PRIMARY_ATTRIBUTES);
+        }
+        return totalAttributes;
+    }
+
+    protected PrimaryAttributeAccumulator getTotalPrimaryAttributeSum() {
+        if (!totalSumValid) {
+            totalSum.set(getCharacterClass().getLevelPrimaryAttributes(level)).add(armorSum);
+            totalSumValid = true;
+        }
+        return totalSum;
     }
 
     public void equip(Item item) {
+        final EquipResult result = tryEquip(item);
+        if (!result.isSuccess())
+            throw result.toException(this, item);
+    }
 
-        // Check level requirement
-        if (item.getRequiredLevel() > level) {
-            if (item instanceof Weapon weapon)
-                throw new InvalidWeaponException(ItemExceptionType.LEVEL_INSUFFICIENT, this, weapon);
-            else if (item instanceof Armor armor) {
-                throw new InvalidArmorException(ItemExceptionType.LEVEL_INSUFFICIENT, this, armor);
-            }
-        }
+    /**
+     * Equips the item if the character may use it, reporting the reason instead of throwing otherwise.
+     */
+    public EquipResult tryEquip(Item item) {
+        final EquipEvent event = new EquipEvent();
+        event.begin();
+        final EquipResult result = canEquip(item);
+        if (result.isSuccess())
+            restoreEquipment(item);
+        if (CharacterMetrics.isEnabled())
+            CharacterMetrics.equip(item.getSlot(), result);
+        event.commit(name, getCharacterClass().name(), item.getName(), item.getSlot().name(), result.name());
+        return result;
+    }
+
+    public EquipResult canEquip(Item item) {
+        return getCharacterClass().check(item, level);
+    }
 
-        // Check class compatibility with weapon type
-        if (item instanceof Weapon weapon && !getValidWeaponTypes().contains(weapon.getType()))
-            throw new InvalidWeaponException(ItemExceptionType.CLASS_INCOMPATIBLE, this, weapon);
+    /**
+     * Equips the item without checking level or class requirements. Intended for restoring
+     * state that was already validated when the item was first equipped.
+     */
+    public void restoreEquipment(Item item) {
+        final Item previous = equipment.put(item.getSlot(), item);
+        unequipped(previous);
+        equipped(item);
+        dpsValid = false;
+        for (CharacterListener listener : listeners)
+            listener.equipped(this, previous, item);
+    }
 
-        // Check class compatibility with armor type
-        if (item instanceof Armor armor && !getValidArmorTypes().contains(armor.getType()))
-            throw new InvalidArmorException(ItemExceptionType.CLASS_INCOMPATIBLE, this, armor);
+    private void equipped(Item item) {
+        if (item instanceof Armor armor) {
+            armorSum.add(armor.getAttributes());
+            if (totalSumValid)
+                totalSum.add(armor.getAttributes());
+            armorAttributes = null;
+            totalAttributes = null;
+        } else if (item instanceof Weapon weapon) {
+            weaponDPS = weapon.dpsAsDouble() != 0 ? weapon.dpsAsDouble() : 1;
+        }
+    }
 
-        equipment.put(item.getSlot(), item);
+    private void unequipped(Item item) {
+        if (item instanceof Armor armor) {
+            armorSum.subtract(armor.getAttributes());
+            if (totalSumValid)
+                totalSum.subtract(armor.getAttributes());
+            armorAttributes = null;
+            totalAttributes = null;
+        } else if (item instanceof Weapon) {
+            weaponDPS = 1;
+        }
     }
 
     public PrimaryAttribute getEquippedArmorAttributes() {
-        return equipment.values().stream()
-                .filter(Armor.class::isInstance) // Filter for Armor typed items
-                .map(Armor.class::cast) // Cast each item to Armor
-                .map(Armor::getAttributes) // Map each armor into its attributes
-                .reduce(PrimaryAttribute.of(0, 0, 0), PrimaryAttribute::add); // Sum the attributes
+        if (armorAttributes == null)
+            armorAttributes = armorSum.toPrimaryAttribute();
+        return armorAttributes;
     }
 
     public Double getEquippedWeaponDPS() {
-        final Double weaponDPS = equipment.values().stream()
-                .filter(Weapon.class::isInstance) // Filter for Weapon typed items
-                .map(Weapon.class::cast) // Cast each item to Weapon
-                .map(Weapon::getDPS) // Map each weapon into DPS
-                .reduce(0d, Double::sum); // Sum the DPS
+        return equippedWeaponDpsAsDouble();
+    }
 
-        return weaponDPS != 0 ? weaponDPS : 1;
+    public double equippedWeaponDpsAsDouble() {
+        return weaponDPS;
     }
 
     public Double getDPS() {
-        return getEquippedWeaponDPS() * getCharacterDamageMultiplier();
+        return dpsAsDouble();
+    }
+
+    public double dpsAsDouble() {
+        final boolean metrics = CharacterMetrics.isEnabled();
+        if (dpsValid) {
+            if (metrics)
+                CharacterMetrics.dpsCacheHit();
+            return dps;
+        }
+        final RecomputeEvent event = new RecomputeEvent();
+        event.begin();
+        final long start = metrics ? System.nanoTime() : 0;
+        dps = equippedWeaponDpsAsDouble() * characterDamageMultiplierAsDouble();
+        dpsValid = true;
+        if (metrics)
+            CharacterMetrics.dpsComputed(System.nanoTime() - start);
+        event.commit(name, getCharacterClass().name(), RecomputeEvent.DPS);
+        return dps;
     }
 
     public void levelUp() {
-        this.level++;
+        if (CharacterMetrics.isEnabled())
+            CharacterMetrics.levelUp();
+        setLevel(level + 1);
     }
 
     public Integer getLevel() {
@@ -93,7 +186,47 @@ public abstract class Character {
     }
 
     public void setLevel(Integer level) {
+        final LevelChangeEvent event = new LevelChangeEvent();
+        event.begin();
+        final int previousLevel = this.level;
+        restoreLevel(level);
+        if (CharacterMetrics.isEnabled())
+            CharacterMetrics.levelChanged();
+        if (level != previousLevel)
+            event.commit(name, getCharacterClass().name(), previousLevel, level);
+        for (CharacterListener listener : listeners)
+            listener.levelChanged(this, previousLevel, level);
+    }
+
+    /**
+     * Sets the level without counting metrics, emitting events or notifying listeners. Intended for
+     * restoring saved or replicated state, like {@link #restoreEquipment(Item)} is for equipment.
+     */
+    public void restoreLevel(int level) {
+        // Add or remove the attributes gained between the old and the new level
+        if (totalSumValid)
+            totalSum.addMultiplied(getCharacterClass().getGainPerLevel(), level - this.level);
         this.level = level;
+        totalAttributes = null;
+        dpsValid = false;
+    }
+
+    public void addListener(CharacterListener listener) {
+        final CharacterListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    public void removeListener(CharacterListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                final CharacterListener[] updated = new CharacterListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
     }
 
     public String getName() {
@@ -102,7 +235,7 @@ public abstract class Character {
 
     @Override
     public String toString() {
-        String character = String.format("%s (Level %d) %s DPS: %.2f", name, level, getTotalPrimaryAttributes(), getDPS());
+        String character = String.format(Locale.ROOT, "%s (Level %d) %s DPS: %.2f", name, level, getTotalPrimaryAttributes(), getDPS());
         StringBuilder builder = new StringBuilder(character);
         builder.append("\n Equipment: [\n");
         for (Item item : equipment.values()) {
@@ -0,0 +1,138 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.AttributeType;
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.attribute.PrimaryAttributeAccumulator;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.util.List;
+import java.util.function.Function;
+
+import static com.jorgsaa.item.armor.ArmorType.*;
+import static com.jorgsaa.item.weapon.WeaponType.*;
+
+/**
+ * Rules shared by every character of a class, built once per class. Item type compatibility is held as
+ * bitmasks over the {@link ArmorType} and {@link WeaponType} ordinals so validation is a single mask test.
+ */
+public enum CharacterClass {
+    MAGE(Mage::new, PrimaryAttribute.of(1, 1, 8), PrimaryAttribute.of(1, 1, 5), AttributeType.INTELLIGENCE,
+            List.of(CLOTH), List.of(STAFF, WAND)),
+    RANGER(Ranger::new, PrimaryAttribute.of(1, 7, 1), PrimaryAttribute.of(1, 5, 1), AttributeType.DEXTERITY,
+            List.of(LEATHER, MAIL), List.of(BOW)),
+    ROGUE(Rogue::new, PrimaryAttribute.of(2, 6, 1), PrimaryAttribute.of(1, 4, 1), AttributeType.DEXTERITY,
+            List.of(LEATHER, MAIL), List.of(DAGGER, SWORD)),
+    WARRIOR(Warrior::new, PrimaryAttribute.of(5, 2, 1), PrimaryAttribute.of(3, 2, 1), AttributeType.STRENGTH,
+            List.of(MAIL, PLATE), List.of(AXE, HAMMER, SWORD));
+
+    private static final CharacterClass[] VALUES = values();
+
+    private final Function<String, Character> factory;
+    private final PrimaryAttribute baseAttributes;
+    private final PrimaryAttribute gainPerLevel;
+    private final AttributeType mainAttribute;
+    private final LevelTable levelTable;
+    private final List<ArmorType> validArmorTypes;
+    private final List<WeaponType> validWeaponTypes;
+    private final int armorTypeMask;
+    private final int weaponTypeMask;
+
+    CharacterClass(Function<String, Character> factory, PrimaryAttribute baseAttributes, PrimaryAttribute gainPerLevel,
+                   AttributeType mainAttribute, List<ArmorType> validArmorTypes, List<WeaponType> validWeaponTypes) {
+        this.factory = factory;
+        this.baseAttributes = baseAttributes;
+        this.gainPerLevel = gainPerLevel;
+        this.mainAttribute = mainAttribute;
+        this.levelTable = new LevelTable(baseAttributes, gainPerLevel, LevelTable.DEFAULT_CAP);
+        this.validArmorTypes = validArmorTypes;
+        this.validWeaponTypes = validWeaponTypes;
+        this.armorTypeMask = validArmorTypes.stream().mapToInt(type -> 1 << type.ordinal()).reduce(0, (a, b) -> a | b);
+        this.weaponTypeMask = validWeaponTypes.stream().mapToInt(type -> 1 << type.ordinal()).reduce(0, (a, b) -> a | b);
+    }
+
+    public static CharacterClass byId(int id) {
+        return VALUES[id];
+    }
+
+    public int getId() {
+        return ordinal();
+    }
+
+    public Character newCharacter(String name) {
+        return factory.apply(name);
+    }
+
+    public PrimaryAttribute getBasePrimaryAttributes() {
+        return baseAttributes;
+    }
+
+    public PrimaryAttribute getGainPerLevel() {
+        return gainPerLevel;
+    }
+
+    public PrimaryAttribute getGainedPrimaryAttributes(int level) {
+        return levelTable.gained(level);
+    }
+
+    /**
+     * @return base plus gained attributes at the level, without equipment
+     */
+    public PrimaryAttribute getLevelPrimaryAttributes(int level) {
+        return levelTable.attributes(level);
+    }
+
+    public LevelTable getLevelTable() {
+        return levelTable;
+    }
+
+    public AttributeType getMainAttribute() {
+        return mainAttribute;
+    }
+
+    public List<ArmorType> getValidArmorTypes() {
+        return validArmorTypes;
+    }
+
+    public List<WeaponType> getValidWeaponTypes() {
+        return validWeaponTypes;
+    }
+
+    public boolean canEquip(ArmorType type) {
+        return (armorTypeMask & (1 << type.ordinal())) != 0;
+    }
+
+    public boolean canEquip(WeaponType type) {
+        return (weaponTypeMask & (1 << type.ordinal())) != 0;
+    }
+
+    public EquipResult check(Item item, int level) {
+
+        // Check level requirement
+        if (item.getRequiredLevel() > level && (item instanceof Weapon || item instanceof Armor))
+            return EquipResult.LEVEL_INSUFFICIENT;
+
+        // Check class compatibility with weapon type
+        if (item instanceof Weapon weapon && !canEquip(weapon.getType()))
+            return EquipResult.CLASS_INCOMPATIBLE;
+
+        // Check class compatibility with armor type
+        if (item instanceof Armor armor && !canEquip(armor.getType()))
+            return EquipResult.CLASS_INCOMPATIBLE;
+
+        return EquipResult.EQUIPPED;
+    }
+
+    public double getDamageMultiplier(PrimaryAttributeAccumulator totalAttributes) {
+        return getDamageMultiplier(mainAttribute.of(totalAttributes));
+    }
+
+    public double getDamageMultiplier(int mainAttributeValue) {
+        return 1 + (0.01d * mainAttributeValue);
+    }
+
+}
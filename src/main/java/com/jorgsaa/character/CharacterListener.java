@@ -0,0 +1,20 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.item.Item;
+
+/**
+ * Notified after a {@link Character} changes. Listeners run synchronously on the mutating thread and
+ * should return quickly.
+ */
+public interface CharacterListener {
+
+    /**
+     * @param previous the item that was in the slot before, or {@code null}
+     */
+    default void equipped(Character character, Item previous, Item item) {
+    }
+
+    default void levelChanged(Character character, int previousLevel, int level) {
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.util.List;
+
+/**
+ * Read-only view of a character, implemented by {@link Character} and by
+ * flyweights over columnar storage.
+ */
+public interface CharacterView {
+
+    String getName();
+
+    Integer getLevel();
+
+    CharacterClass getCharacterClass();
+
+    PrimaryAttribute getBasePrimaryAttributes();
+
+    PrimaryAttribute getGainedPrimaryAttributes();
+
+    List<ArmorType> getValidArmorTypes();
+
+    List<WeaponType> getValidWeaponTypes();
+
+    PrimaryAttribute getTotalPrimaryAttributes();
+
+    PrimaryAttribute getEquippedArmorAttributes();
+
+    Double getEquippedWeaponDPS();
+
+    double equippedWeaponDpsAsDouble();
+
+    Double getDPS();
+
+    double dpsAsDouble();
+
+    Item getEquipment(Slot slot);
+
+}
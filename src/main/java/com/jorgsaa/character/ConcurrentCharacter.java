@@ -0,0 +1,291 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.attribute.PrimaryAttributeAccumulator;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Thread-safe character whose level and equipment are published together as an immutable
+ * {@link Snapshot} through an {@link AtomicReference}.
+ * <p>
+ * Readers never lock: every read goes to the current snapshot, whose stats were computed when it was
+ * built, and {@link #snapshot()} gives several consistent reads. Writers build a new snapshot from the
+ * current one and retry with compare-and-set if another writer got there first.
+ */
+public class ConcurrentCharacter implements CharacterView {
+
+    private static final Slot[] SLOTS = Slot.values();
+
+    private final CharacterClass characterClass;
+    private final String name;
+    private final AtomicReference<Snapshot> state;
+
+    public ConcurrentCharacter(CharacterClass characterClass, String name) {
+        this.characterClass = characterClass;
+        this.name = name;
+        this.state = new AtomicReference<>(new Snapshot(1, new Item[SLOTS.length]));
+    }
+
+    public static ConcurrentCharacter of(Character character) {
+        final ConcurrentCharacter concurrent = new ConcurrentCharacter(character.getCharacterClass(), character.getName());
+        final Item[] equipment = new Item[SLOTS.length];
+        for (Slot slot : SLOTS)
+            equipment[slot.ordinal()] = character.getEquipment(slot);
+        concurrent.state.set(concurrent.new Snapshot(character.getLevel(), equipment));
+        return concurrent;
+    }
+
+    public Snapshot snapshot() {
+        return state.get();
+    }
+
+    public void equip(Item item) {
+        final EquipResult result = tryEquip(item);
+        if (!result.isSuccess())
+            throw result.toException(toCharacter(), item);
+    }
+
+    public EquipResult tryEquip(Item item) {
+        while (true) {
+            final Snapshot current = state.get();
+            final EquipResult result = characterClass.check(item, current.level);
+            if (!result.isSuccess())
+                return result;
+            if (state.compareAndSet(current, current.with(item)))
+                return result;
+        }
+    }
+
+    public EquipResult canEquip(Item item) {
+        return characterClass.check(item, state.get().level);
+    }
+
+    public void levelUp() {
+        update(current -> new Snapshot(current.level + 1, current.equipment));
+    }
+
+    public void setLevel(int level) {
+        update(current -> new Snapshot(level, current.equipment));
+    }
+
+    /**
+     * Materializes the current snapshot as a regular, single-threaded {@link Character}.
+     */
+    public Character toCharacter() {
+        return state.get().toCharacter();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Integer getLevel() {
+        return state.get().getLevel();
+    }
+
+    @Override
+    public CharacterClass getCharacterClass() {
+        return characterClass;
+    }
+
+    @Override
+    public PrimaryAttribute getBasePrimaryAttributes() {
+        return characterClass.getBasePrimaryAttributes();
+    }
+
+    @Override
+    public PrimaryAttribute getGainedPrimaryAttributes() {
+        return state.get().getGainedPrimaryAttributes();
+    }
+
+    @Override
+    public List<ArmorType> getValidArmorTypes() {
+        return characterClass.getValidArmorTypes();
+    }
+
+    @Override
+    public List<WeaponType> getValidWeaponTypes() {
+        return characterClass.getValidWeaponTypes();
+    }
+
+    @Override
+    public PrimaryAttribute getTotalPrimaryAttributes() {
+        return state.get().getTotalPrimaryAttributes();
+    }
+
+    @Override
+    public PrimaryAttribute getEquippedArmorAttributes() {
+        return state.get().getEquippedArmorAttributes();
+    }
+
+    @Override
+    public Double getEquippedWeaponDPS() {
+        return equippedWeaponDpsAsDouble();
+    }
+
+    @Override
+    public double equippedWeaponDpsAsDouble() {
+        return state.get().equippedWeaponDpsAsDouble();
+    }
+
+    @Override
+    public Double getDPS() {
+        return dpsAsDouble();
+    }
+
+    @Override
+    public double dpsAsDouble() {
+        return state.get().dpsAsDouble();
+    }
+
+    @Override
+    public Item getEquipment(Slot slot) {
+        return state.get().getEquipment(slot);
+    }
+
+    @Override
+    public String toString() {
+        return toCharacter().toString();
+    }
+
+    private void update(UnaryOperator<Snapshot> change) {
+        while (true) {
+            final Snapshot current = state.get();
+            if (state.compareAndSet(current, change.apply(current)))
+                return;
+        }
+    }
+
+    /**
+     * Immutable state of the character at one point in time, with its stats precomputed.
+     */
+    public final class Snapshot implements CharacterView {
+
+        private final int level;
+        private final Item[] equipment;
+        private final PrimaryAttribute armorAttributes;
+        private final PrimaryAttribute totalAttributes;
+        private final double weaponDPS;
+        private final double dps;
+
+        private Snapshot(int level, Item[] equipment) {
+            this.level = level;
+            this.equipment = equipment;
+
+            final PrimaryAttributeAccumulator armor = new PrimaryAttributeAccumulator();
+            double weapon = 1;
+            for (Item item : equipment) {
+                if (item instanceof Armor piece)
+                    armor.add(piece.getAttributes());
+                else if (item instanceof Weapon held && held.dpsAsDouble() != 0)
+                    weapon = held.dpsAsDouble();
+            }
+            final PrimaryAttributeAccumulator total = new PrimaryAttributeAccumulator(characterClass.getLevelPrimaryAttributes(level))
+                    .add(armor);
+
+            this.armorAttributes = armor.toPrimaryAttribute();
+            this.totalAttributes = total.toPrimaryAttribute();
+            this.weaponDPS = weapon;
+            this.dps = weapon * characterClass.getDamageMultiplier(total);
+        }
+
+        private Snapshot with(Item item) {
+            final Item[] updated = equipment.clone();
+            updated[item.getSlot().ordinal()] = item;
+            return new Snapshot(level, updated);
+        }
+
+        private Character toCharacter() {
+            final Character character = characterClass.newCharacter(name);
+            character.restoreLevel(level);
+            for (Item item : equipment)
+                if (item != null)
+                    character.restoreEquipment(item);
+            return character;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public Integer getLevel() {
+            return level;
+        }
+
+        @Override
+        public CharacterClass getCharacterClass() {
+            return characterClass;
+        }
+
+        @Override
+        public PrimaryAttribute getBasePrimaryAttributes() {
+            return characterClass.getBasePrimaryAttributes();
+        }
+
+        @Override
+        public PrimaryAttribute getGainedPrimaryAttributes() {
+            return characterClass.getGainedPrimaryAttributes(level);
+        }
+
+        @Override
+        public List<ArmorType> getValidArmorTypes() {
+            return characterClass.getValidArmorTypes();
+        }
+
+        @Override
+        public List<WeaponType> getValidWeaponTypes() {
+            return characterClass.getValidWeaponTypes();
+        }
+
+        @Override
+        public PrimaryAttribute getTotalPrimaryAttributes() {
+            return totalAttributes;
+        }
+
+        @Override
+        public PrimaryAttribute getEquippedArmorAttributes() {
+            return armorAttributes;
+        }
+
+        @Override
+        public Double getEquippedWeaponDPS() {
+            return weaponDPS;
+        }
+
+        @Override
+        public double equippedWeaponDpsAsDouble() {
+            return weaponDPS;
+        }
+
+        @Override
+        public Double getDPS() {
+            return dps;
+        }
+
+        @Override
+        public double dpsAsDouble() {
+            return dps;
+        }
+
+        @Override
+        public Item getEquipment(Slot slot) {
+            return equipment[slot.ordinal()];
+        }
+
+    }
+
+}
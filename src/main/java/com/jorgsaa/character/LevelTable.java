@@ -0,0 +1,98 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+
+/**
+ * Attributes of a class at each level, base plus gained, precomputed so that level-dependent stats are
+ * an array read. Levels up to the initial cap are built eagerly. Higher levels grow the table on first
+ * use, up to {@link #MAX_TABULATED_LEVEL}. Levels outside the table fall back to the formula, which uses
+ * the same int arithmetic, so every result is identical to {@code base + gain * (level - 1)}.
+ */
+public final class LevelTable {
+
+    public static final int DEFAULT_CAP = 100;
+    public static final int MAX_TABULATED_LEVEL = 1 << 16;
+
+    private final PrimaryAttribute base;
+    private final PrimaryAttribute gain;
+    private volatile Levels levels;
+
+    LevelTable(PrimaryAttribute base, PrimaryAttribute gain, int cap) {
+        this.base = base;
+        this.gain = gain;
+        this.levels = new Levels(base, gain, Math.max(1, Math.min(cap, MAX_TABULATED_LEVEL)));
+    }
+
+    public int getTabulatedLevels() {
+        return levels.maxLevel;
+    }
+
+    public int strength(int level) {
+        final Levels table = tableFor(level);
+        return table != null ? table.attributes[(level - 1) * 3] : base.strength() + gain.strength() * (level - 1);
+    }
+
+    public int dexterity(int level) {
+        final Levels table = tableFor(level);
+        return table != null ? table.attributes[(level - 1) * 3 + 1] : base.dexterity() + gain.dexterity() * (level - 1);
+    }
+
+    public int intelligence(int level) {
+        final Levels table = tableFor(level);
+        return table != null ? table.attributes[(level - 1) * 3 + 2] : base.intelligence() + gain.intelligence() * (level - 1);
+    }
+
+    /**
+     * @return base plus gained attributes at the level
+     */
+    public PrimaryAttribute attributes(int level) {
+        final Levels table = tableFor(level);
+        return table != null ? table.totals[level - 1] : base.add(gain.multiply(level - 1));
+    }
+
+    public PrimaryAttribute gained(int level) {
+        final Levels table = tableFor(level);
+        return table != null ? table.gained[level - 1] : gain.multiply(level - 1);
+    }
+
+    private Levels tableFor(int level) {
+        final Levels table = levels;
+        if (level >= 1 && level <= table.maxLevel)
+            return table;
+        if (level < 1 || level > MAX_TABULATED_LEVEL)
+            return null;
+        return extend(level);
+    }
+
+    private synchronized Levels extend(int level) {
+        if (level > levels.maxLevel)
+            levels = new Levels(base, gain, Math.min(Math.max(level, levels.maxLevel * 2), MAX_TABULATED_LEVEL));
+        return levels;
+    }
+
+    private static final class Levels {
+
+        private final int maxLevel;
+        private final int[] attributes;
+        private final PrimaryAttribute[] gained;
+        private final PrimaryAttribute[] totals;
+
+        Levels(PrimaryAttribute base, PrimaryAttribute gain, int maxLevel) {
+            this.maxLevel = maxLevel;
+            this.attributes = new int[maxLevel * 3];
+            this.gained = new PrimaryAttribute[maxLevel];
+            this.totals = new PrimaryAttribute[maxLevel];
+            for (int level = 1; level <= maxLevel; level++) {
+                final PrimaryAttribute levelGain = gain.multiply(level - 1);
+                final PrimaryAttribute total = base.add(levelGain);
+                gained[level - 1] = levelGain;
+                totals[level - 1] = total;
+                attributes[(level - 1) * 3] = total.strength();
+                attributes[(level - 1) * 3 + 1] = total.dexterity();
+                attributes[(level - 1) * 3 + 2] = total.intelligence();
+            }
+        }
+
+    }
+
+}
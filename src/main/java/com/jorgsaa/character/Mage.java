@@ -6,9 +6,7 @@ import com.jorgsaa.item.weapon.WeaponType;
 
 import java.util.List;
 
-import static com.jorgsaa.item.armor.ArmorType.CLOTH;
-import static com.jorgsaa.item.weapon.WeaponType.STAFF;
-import static com.jorgsaa.item.weapon.WeaponType.WAND;
+import static com.jorgsaa.character.CharacterClass.MAGE;
 
 public class Mage extends Character {
 
@@ -16,29 +14,34 @@ public class Mage extends Character {
         super(name);
     }
 
+    @Override
+    public CharacterClass getCharacterClass() {
+        return MAGE;
+    }
+
     @Override
     public PrimaryAttribute getBasePrimaryAttributes() {
-        return PrimaryAttribute.of(1, 1, 8);
+        return MAGE.getBasePrimaryAttributes();
     }
 
     @Override
     public PrimaryAttribute getGainedPrimaryAttributes() {
-        return PrimaryAttribute.of(1, 1, 5).multiply(getLevel() - 1);
+        return MAGE.getGainedPrimaryAttributes(getLevel());
     }
 
     @Override
     public List<ArmorType> getValidArmorTypes() {
-        return List.of(CLOTH);
+        return MAGE.getValidArmorTypes();
     }
 
     @Override
     public List<WeaponType> getValidWeaponTypes() {
-        return List.of(STAFF, WAND);
+        return MAGE.getValidWeaponTypes();
     }
 
     @Override
-    protected Double getCharacterDamageMultiplier() {
-        return 1 + (0.01d * getTotalPrimaryAttributes().intelligence());
+    protected double characterDamageMultiplierAsDouble() {
+        return MAGE.getDamageMultiplier(getTotalPrimaryAttributeSum());
     }
 
 }
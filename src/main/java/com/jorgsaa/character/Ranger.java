@@ -6,9 +6,7 @@ import com.jorgsaa.item.weapon.WeaponType;
 
 import java.util.List;
 
-import static com.jorgsaa.item.armor.ArmorType.LEATHER;
-import static com.jorgsaa.item.armor.ArmorType.MAIL;
-import static com.jorgsaa.item.weapon.WeaponType.BOW;
+import static com.jorgsaa.character.CharacterClass.RANGER;
 
 public class Ranger extends Character {
 
@@ -16,29 +14,34 @@ public class Ranger extends Character {
         super(name);
     }
 
+    @Override
+    public CharacterClass getCharacterClass() {
+        return RANGER;
+    }
+
     @Override
     public PrimaryAttribute getBasePrimaryAttributes() {
-        return PrimaryAttribute.of(1, 7, 1);
+        return RANGER.getBasePrimaryAttributes();
     }
 
     @Override
     public PrimaryAttribute getGainedPrimaryAttributes() {
-        return PrimaryAttribute.of(1, 5, 1).multiply(getLevel() - 1);
+        return RANGER.getGainedPrimaryAttributes(getLevel());
     }
 
     @Override
     public List<ArmorType> getValidArmorTypes() {
-        return List.of(LEATHER, MAIL);
+        return RANGER.getValidArmorTypes();
     }
 
     @Override
     public List<WeaponType> getValidWeaponTypes() {
-        return List.of(BOW);
+        return RANGER.getValidWeaponTypes();
     }
 
     @Override
-    protected Double getCharacterDamageMultiplier() {
-        return 1 + (0.01d * getTotalPrimaryAttributes().dexterity());
+    protected double characterDamageMultiplierAsDouble() {
+        return RANGER.getDamageMultiplier(getTotalPrimaryAttributeSum());
     }
 
 }
@@ -6,10 +6,7 @@ import com.jorgsaa.item.weapon.WeaponType;
 
 import java.util.List;
 
-import static com.jorgsaa.item.armor.ArmorType.LEATHER;
-import static com.jorgsaa.item.armor.ArmorType.MAIL;
-import static com.jorgsaa.item.weapon.WeaponType.DAGGER;
-import static com.jorgsaa.item.weapon.WeaponType.SWORD;
+import static com.jorgsaa.character.CharacterClass.ROGUE;
 
 public class Rogue extends Character {
 
@@ -17,29 +14,34 @@ public class Rogue extends Character {
         super(name);
     }
 
+    @Override
+    public CharacterClass getCharacterClass() {
+        return ROGUE;
+    }
+
     @Override
     public PrimaryAttribute getBasePrimaryAttributes() {
-        return PrimaryAttribute.of(2, 6, 1);
+        return ROGUE.getBasePrimaryAttributes();
     }
 
     @Override
     public PrimaryAttribute getGainedPrimaryAttributes() {
-        return PrimaryAttribute.of(1, 4, 1).multiply(getLevel() - 1);
+        return ROGUE.getGainedPrimaryAttributes(getLevel());
     }
 
     @Override
     public List<ArmorType> getValidArmorTypes() {
-        return List.of(LEATHER, MAIL);
+        return ROGUE.getValidArmorTypes();
     }
 
     @Override
     public List<WeaponType> getValidWeaponTypes() {
-        return List.of(DAGGER, SWORD);
+        return ROGUE.getValidWeaponTypes();
     }
 
     @Override
-    protected Double getCharacterDamageMultiplier() {
-        return 1 + (0.01d * getTotalPrimaryAttributes().dexterity());
+    protected double characterDamageMultiplierAsDouble() {
+        return ROGUE.getDamageMultiplier(getTotalPrimaryAttributeSum());
     }
 
 }
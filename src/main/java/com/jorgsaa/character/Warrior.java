@@ -6,9 +6,7 @@ import com.jorgsaa.item.weapon.WeaponType;
 
 import java.util.List;
 
-import static com.jorgsaa.item.armor.ArmorType.MAIL;
-import static com.jorgsaa.item.armor.ArmorType.PLATE;
-import static com.jorgsaa.item.weapon.WeaponType.*;
+import static com.jorgsaa.character.CharacterClass.WARRIOR;
 
 public class Warrior extends Character {
 
@@ -16,29 +14,34 @@ public class Warrior extends Character {
         super(name);
     }
 
+    @Override
+    public CharacterClass getCharacterClass() {
+        return WARRIOR;
+    }
+
     @Override
     public PrimaryAttribute getBasePrimaryAttributes() {
-        return PrimaryAttribute.of(5, 2, 1);
+        return WARRIOR.getBasePrimaryAttributes();
     }
 
     @Override
     public PrimaryAttribute getGainedPrimaryAttributes() {
-        return PrimaryAttribute.of(3, 2, 1).multiply(getLevel() - 1);
+        return WARRIOR.getGainedPrimaryAttributes(getLevel());
     }
 
     @Override
     public List<ArmorType> getValidArmorTypes() {
-        return List.of(MAIL, PLATE);
+        return WARRIOR.getValidArmorTypes();
     }
 
     @Override
     public List<WeaponType> getValidWeaponTypes() {
-        return List.of(AXE, HAMMER, SWORD);
+        return WARRIOR.getValidWeaponTypes();
     }
 
     @Override
-    protected Double getCharacterDamageMultiplier() {
-        return 1 + (0.01d * getTotalPrimaryAttributes().strength());
+    protected double characterDamageMultiplierAsDouble() {
+        return WARRIOR.getDamageMultiplier(getTotalPrimaryAttributeSum());
     }
 
 }
@@ -0,0 +1,57 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+
+import java.util.Objects;
+
+/**
+ * Primary attributes of many characters or items laid out as one int column per attribute, the input
+ * and output format of {@link AttributeKernel}.
+ */
+public final class AttributeColumns {
+
+    private final int[] strength;
+    private final int[] dexterity;
+    private final int[] intelligence;
+
+    public AttributeColumns(int capacity) {
+        this(new int[capacity], new int[capacity], new int[capacity]);
+    }
+
+    public AttributeColumns(int[] strength, int[] dexterity, int[] intelligence) {
+        if (strength.length != dexterity.length || strength.length != intelligence.length)
+            throw new IllegalArgumentException("Attribute columns must have equal length");
+        this.strength = strength;
+        this.dexterity = dexterity;
+        this.intelligence = intelligence;
+    }
+
+    public int capacity() {
+        return strength.length;
+    }
+
+    public AttributeColumns set(int index, PrimaryAttribute attributes) {
+        strength[index] = attributes.strength();
+        dexterity[index] = attributes.dexterity();
+        intelligence[index] = attributes.intelligence();
+        return this;
+    }
+
+    public PrimaryAttribute get(int index) {
+        Objects.checkIndex(index, strength.length);
+        return PrimaryAttribute.of(strength[index], dexterity[index], intelligence[index]);
+    }
+
+    public int[] strength() {
+        return strength;
+    }
+
+    public int[] dexterity() {
+        return dexterity;
+    }
+
+    public int[] intelligence() {
+        return intelligence;
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.character.CharacterClass;
+
+/**
+ * Column-wise attribute arithmetic for whole populations. Sums wrap like {@code PrimaryAttribute.add}
+ * and multipliers are computed exactly as {@link CharacterClass#getDamageMultiplier(int)}, so every
+ * implementation gives identical results.
+ * <p>
+ * {@link #best()} returns a kernel on the incubating Vector API when the {@code jdk.incubator.vector}
+ * module was added to the JVM, and the scalar kernel otherwise. Set the system property
+ * {@code com.jorgsaa.character.batch.vector} to {@code false} to always use the scalar kernel.
+ */
+public abstract class AttributeKernel {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "com.jorgsaa.character.batch.VectorAttributeKernel";
+    private static final boolean VECTOR_ENABLED =
+            Boolean.parseBoolean(System.getProperty("com.jorgsaa.character.batch.vector", "true"));
+
+    // Main attribute of each class by class id, as an AttributeType ordinal
+    static final int[] MAIN_ATTRIBUTE_BY_CLASS = new int[CharacterClass.values().length];
+
+    static {
+        for (CharacterClass characterClass : CharacterClass.values())
+            MAIN_ATTRIBUTE_BY_CLASS[characterClass.getId()] = characterClass.getMainAttribute().ordinal();
+    }
+
+    private static final AttributeKernel SCALAR = new ScalarAttributeKernel();
+    private static final AttributeKernel BEST = loadBest();
+
+    public static AttributeKernel scalar() {
+        return SCALAR;
+    }
+
+    public static AttributeKernel best() {
+        return BEST;
+    }
+
+    public abstract String getName();
+
+    /**
+     * Writes the element-wise sum of all inputs to {@code out} for the first {@code length} rows. The
+     * output may be one of the inputs.
+     */
+    public abstract void sum(AttributeColumns[] inputs, AttributeColumns out, int length);
+
+    /**
+     * Writes the damage multiplier of each row to {@code out}, taking the main attribute of the class
+     * with the id in {@code classIds}.
+     */
+    public abstract void damageMultipliers(AttributeColumns totals, int[] classIds, double[] out, int length);
+
+    static void checkSum(AttributeColumns[] inputs, AttributeColumns out, int length) {
+        if (inputs.length == 0)
+            throw new IllegalArgumentException("At least one input is required");
+        for (AttributeColumns input : inputs)
+            checkLength(input.capacity(), length);
+        checkLength(out.capacity(), length);
+    }
+
+    static void checkMultipliers(AttributeColumns totals, int[] classIds, double[] out, int length) {
+        checkLength(totals.capacity(), length);
+        checkLength(classIds.length, length);
+        checkLength(out.length, length);
+        for (int i = 0; i < length; i++) {
+            if (classIds[i] < 0 || classIds[i] >= MAIN_ATTRIBUTE_BY_CLASS.length)
+                throw new IllegalArgumentException("Unknown class id " + classIds[i] + " at " + i);
+        }
+    }
+
+    private static void checkLength(int capacity, int length) {
+        if (length < 0 || capacity < length)
+            throw new IllegalArgumentException(String.format("Column of length %d cannot hold %d rows", capacity, length));
+    }
+
+    static double damageMultiplier(int classId, int strength, int dexterity, int intelligence) {
+        final CharacterClass characterClass = CharacterClass.byId(classId);
+        return characterClass.getDamageMultiplier(characterClass.getMainAttribute().of(strength, dexterity, intelligence));
+    }
+
+    private static AttributeKernel loadBest() {
+        if (!VECTOR_ENABLED || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+            return SCALAR;
+        try {
+            // Loaded reflectively so that the scalar path never links against the incubator module
+            return (AttributeKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR;
+        }
+    }
+
+}
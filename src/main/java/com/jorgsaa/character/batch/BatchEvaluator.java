@@ -0,0 +1,159 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.CharacterView;
+import com.jorgsaa.character.store.CharacterStore;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates DPS and total attributes for whole rosters on a fork-join pool.
+ * <p>
+ * Results are written into caller supplied primitive arrays at the position of each character in the
+ * roster, so the output is identical regardless of parallelism. Attributes are written three ints per
+ * character in the order strength, dexterity, intelligence.
+ * <p>
+ * Characters cache their stats lazily, so a roster must not contain the same character twice or be
+ * mutated while it is evaluated.
+ */
+public class BatchEvaluator implements AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    public BatchEvaluator() {
+        this(Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public BatchEvaluator(int parallelism, int chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public double[] evaluateDPS(Collection<? extends CharacterView> roster) {
+        final double[] out = new double[roster.size()];
+        evaluateDPS(roster, out);
+        return out;
+    }
+
+    public void evaluateDPS(Collection<? extends CharacterView> roster, double[] out) {
+        final List<? extends CharacterView> characters = randomAccess(roster);
+        checkLength(out.length, characters.size(), 1);
+        invoke(characters.size(), (from, to) -> {
+            for (int i = from; i < to; i++)
+                out[i] = characters.get(i).dpsAsDouble();
+        });
+    }
+
+    public void evaluateDPS(CharacterStore store, double[] out) {
+        checkLength(out.length, store.size(), 1);
+        invoke(store.size(), (from, to) -> {
+            final CharacterStore.View view = store.view(from);
+            for (int i = from; i < to; i++)
+                out[i] = view.moveTo(i).dpsAsDouble();
+        });
+    }
+
+    public int[] evaluateTotalPrimaryAttributes(Collection<? extends CharacterView> roster) {
+        final int[] out = new int[roster.size() * 3];
+        evaluateTotalPrimaryAttributes(roster, out);
+        return out;
+    }
+
+    public void evaluateTotalPrimaryAttributes(Collection<? extends CharacterView> roster, int[] out) {
+        final List<? extends CharacterView> characters = randomAccess(roster);
+        checkLength(out.length, characters.size(), 3);
+        invoke(characters.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                final PrimaryAttribute attributes = characters.get(i).getTotalPrimaryAttributes();
+                out[i * 3] = attributes.strength();
+                out[i * 3 + 1] = attributes.dexterity();
+                out[i * 3 + 2] = attributes.intelligence();
+            }
+        });
+    }
+
+    public void evaluateTotalPrimaryAttributes(CharacterStore store, int[] out) {
+        checkLength(out.length, store.size(), 3);
+        invoke(store.size(), (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i * 3] = store.getTotalStrength(i);
+                out[i * 3 + 1] = store.getTotalDexterity(i);
+                out[i * 3 + 2] = store.getTotalIntelligence(i);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private void invoke(int size, RangeAction action) {
+        if (size > 0)
+            pool.invoke(new ChunkTask(0, size, chunkSize, action));
+    }
+
+    private static List<? extends CharacterView> randomAccess(Collection<? extends CharacterView> roster) {
+        if (roster instanceof List<? extends CharacterView> list && list instanceof RandomAccess)
+            return list;
+        return new ArrayList<>(roster);
+    }
+
+    private static void checkLength(int length, int size, int stride) {
+        if (length < size * stride)
+            throw new IllegalArgumentException(String.format("Output of length %d cannot hold %d results", length, size * stride));
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private static class ChunkTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+        private final RangeAction action;
+
+        ChunkTask(int from, int to, int chunkSize, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                action.apply(from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(
+                    new ChunkTask(from, middle, chunkSize, action),
+                    new ChunkTask(middle, to, chunkSize, action)
+            );
+        }
+
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.jorgsaa.character.batch;
+
+final class ScalarAttributeKernel extends AttributeKernel {
+
+    @Override
+    public String getName() {
+        return "scalar";
+    }
+
+    @Override
+    public void sum(AttributeColumns[] inputs, AttributeColumns out, int length) {
+        checkSum(inputs, out, length);
+        sum(inputs, AttributeColumns::strength, out.strength(), 0, length);
+        sum(inputs, AttributeColumns::dexterity, out.dexterity(), 0, length);
+        sum(inputs, AttributeColumns::intelligence, out.intelligence(), 0, length);
+    }
+
+    @Override
+    public void damageMultipliers(AttributeColumns totals, int[] classIds, double[] out, int length) {
+        checkMultipliers(totals, classIds, out, length);
+        damageMultipliers(totals, classIds, out, 0, length);
+    }
+
+    static void sum(AttributeColumns[] inputs, Column column, int[] out, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int sum = column.of(inputs[0])[i];
+            for (int input = 1; input < inputs.length; input++)
+                sum += column.of(inputs[input])[i];
+            out[i] = sum;
+        }
+    }
+
+    static void damageMultipliers(AttributeColumns totals, int[] classIds, double[] out, int from, int to) {
+        final int[] strength = totals.strength();
+        final int[] dexterity = totals.dexterity();
+        final int[] intelligence = totals.intelligence();
+        for (int i = from; i < to; i++)
+            out[i] = damageMultiplier(classIds[i], strength[i], dexterity[i], intelligence[i]);
+    }
+
+    @FunctionalInterface
+    interface Column {
+        int[] of(AttributeColumns columns);
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.AttributeType;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link AttributeKernel} on the incubating Vector API. Only loaded through {@link AttributeKernel#best()}
+ * once the {@code jdk.incubator.vector} module is known to be present. Rows past the last full vector are
+ * handled by the scalar kernel.
+ */
+final class VectorAttributeKernel extends AttributeKernel {
+
+    private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+    // Ints with one lane per double lane, so main attributes convert to doubles without reshuffling
+    private static final VectorSpecies<Integer> DOUBLE_LANE_INTS =
+            VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.length() * Integer.SIZE));
+
+    private static final int DEXTERITY = AttributeType.DEXTERITY.ordinal();
+    private static final int INTELLIGENCE = AttributeType.INTELLIGENCE.ordinal();
+
+    @Override
+    public String getName() {
+        return "vector";
+    }
+
+    @Override
+    public void sum(AttributeColumns[] inputs, AttributeColumns out, int length) {
+        checkSum(inputs, out, length);
+        sum(inputs, AttributeColumns::strength, out.strength(), length);
+        sum(inputs, AttributeColumns::dexterity, out.dexterity(), length);
+        sum(inputs, AttributeColumns::intelligence, out.intelligence(), length);
+    }
+
+    @Override
+    public void damageMultipliers(AttributeColumns totals, int[] classIds, double[] out, int length) {
+        checkMultipliers(totals, classIds, out, length);
+        final int[] strength = totals.strength();
+        final int[] dexterity = totals.dexterity();
+        final int[] intelligence = totals.intelligence();
+        final int bound = DOUBLES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += DOUBLES.length()) {
+            final IntVector main = IntVector.fromArray(DOUBLE_LANE_INTS, MAIN_ATTRIBUTE_BY_CLASS, 0, classIds, i);
+            final IntVector value = IntVector.fromArray(DOUBLE_LANE_INTS, strength, i)
+                    .blend(IntVector.fromArray(DOUBLE_LANE_INTS, dexterity, i), main.eq(DEXTERITY))
+                    .blend(IntVector.fromArray(DOUBLE_LANE_INTS, intelligence, i), main.eq(INTELLIGENCE));
+            // Multiply then add, as in CharacterClass.getDamageMultiplier; a fused multiply-add would round differently
+            ((DoubleVector) value.convertShape(VectorOperators.I2D, DOUBLES, 0))
+                    .mul(0.01d)
+                    .add(1d)
+                    .intoArray(out, i);
+        }
+        ScalarAttributeKernel.damageMultipliers(totals, classIds, out, i, length);
+    }
+
+    private static void sum(AttributeColumns[] inputs, ScalarAttributeKernel.Column column, int[] out, int length) {
+        final int bound = INTS.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += INTS.length()) {
+            IntVector sum = IntVector.fromArray(INTS, column.of(inputs[0]), i);
+            for (int input = 1; input < inputs.length; input++)
+                sum = sum.add(IntVector.fromArray(INTS, column.of(inputs[input]), i));
+            sum.intoArray(out, i);
+        }
+        ScalarAttributeKernel.sum(inputs, column, out, i, length);
+    }
+
+}
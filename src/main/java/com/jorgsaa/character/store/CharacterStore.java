@@ -0,0 +1,352 @@
+package com.jorgsaa.character.store;
+
+import com.jorgsaa.attribute.AttributeType;
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.CharacterView;
+import com.jorgsaa.character.LevelTable;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Struct-of-arrays storage for large numbers of characters. Each character is a row index into
+ * primitive columns; equipment is held as {@link ItemRegistry} ids per {@link Slot}. Total attributes,
+ * armor sums and DPS are cached per row and kept up to date on every mutation.
+ * <p>
+ * Rows are read through {@link View}, a flyweight that can be moved between rows without allocating.
+ * Not thread-safe.
+ */
+public class CharacterStore {
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final int SLOT_COUNT = SLOTS.length;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final ItemRegistry items;
+    private int size;
+
+    private byte[] classIds;
+    private int[] levels;
+    private String[] names;
+    private int[] equipment;
+    private int[] armorStrength;
+    private int[] armorDexterity;
+    private int[] armorIntelligence;
+    private int[] totalStrength;
+    private int[] totalDexterity;
+    private int[] totalIntelligence;
+    private double[] weaponDPS;
+    private double[] dps;
+
+    public CharacterStore(ItemRegistry items) {
+        this(items, DEFAULT_CAPACITY);
+    }
+
+    public CharacterStore(ItemRegistry items, int initialCapacity) {
+        this.items = items;
+        final int capacity = Math.max(1, initialCapacity);
+        classIds = new byte[capacity];
+        levels = new int[capacity];
+        names = new String[capacity];
+        equipment = new int[capacity * SLOT_COUNT];
+        armorStrength = new int[capacity];
+        armorDexterity = new int[capacity];
+        armorIntelligence = new int[capacity];
+        totalStrength = new int[capacity];
+        totalDexterity = new int[capacity];
+        totalIntelligence = new int[capacity];
+        weaponDPS = new double[capacity];
+        dps = new double[capacity];
+    }
+
+    public int add(CharacterClass characterClass, String name) {
+        ensureCapacity(size + 1);
+        final int index = size++;
+        classIds[index] = (byte) characterClass.getId();
+        levels[index] = 1;
+        names[index] = name;
+        Arrays.fill(equipment, index * SLOT_COUNT, (index + 1) * SLOT_COUNT, ItemRegistry.NO_ITEM);
+        armorStrength[index] = 0;
+        armorDexterity[index] = 0;
+        armorIntelligence[index] = 0;
+        weaponDPS[index] = 1;
+        recompute(index);
+        return index;
+    }
+
+    public int add(Character character) {
+        final int index = add(character.getCharacterClass(), character.getName());
+        levels[index] = character.getLevel();
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null)
+                put(index, item);
+        }
+        recompute(index);
+        return index;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public ItemRegistry getItems() {
+        return items;
+    }
+
+    public CharacterClass getCharacterClass(int index) {
+        return CharacterClass.byId(classIds[checkIndex(index)]);
+    }
+
+    public String getName(int index) {
+        return names[checkIndex(index)];
+    }
+
+    public int getLevel(int index) {
+        return levels[checkIndex(index)];
+    }
+
+    public int getItemId(int index, Slot slot) {
+        return equipment[checkIndex(index) * SLOT_COUNT + slot.ordinal()];
+    }
+
+    public int getTotalStrength(int index) {
+        return totalStrength[checkIndex(index)];
+    }
+
+    public int getTotalDexterity(int index) {
+        return totalDexterity[checkIndex(index)];
+    }
+
+    public int getTotalIntelligence(int index) {
+        return totalIntelligence[checkIndex(index)];
+    }
+
+    public double getWeaponDPS(int index) {
+        return weaponDPS[checkIndex(index)];
+    }
+
+    public double getDPS(int index) {
+        return dps[checkIndex(index)];
+    }
+
+    public void setLevel(int index, int level) {
+        levels[checkIndex(index)] = level;
+        recompute(index);
+    }
+
+    public void levelUp(int index) {
+        setLevel(index, getLevel(index) + 1);
+    }
+
+    public void equip(int index, Item item) {
+        final EquipResult result = canEquip(index, item);
+        if (!result.isSuccess())
+            throw result.toException(toCharacter(index), item);
+        put(index, item);
+        recompute(index);
+    }
+
+    public EquipResult tryEquip(int index, Item item) {
+        final EquipResult result = canEquip(index, item);
+        if (result.isSuccess()) {
+            put(index, item);
+            recompute(index);
+        }
+        return result;
+    }
+
+    public EquipResult canEquip(int index, Item item) {
+        return getCharacterClass(index).check(item, levels[index]);
+    }
+
+    /**
+     * Materializes the row as a regular {@link Character}.
+     */
+    public Character toCharacter(int index) {
+        final Character character = getCharacterClass(index).newCharacter(names[index]);
+        character.restoreLevel(levels[index]);
+        for (Slot slot : SLOTS) {
+            final Item item = items.get(getItemId(index, slot));
+            if (item != null)
+                character.restoreEquipment(item);
+        }
+        return character;
+    }
+
+    public View view(int index) {
+        return new View().moveTo(index);
+    }
+
+    private void put(int index, Item item) {
+        final int offset = index * SLOT_COUNT + item.getSlot().ordinal();
+        removeBonus(index, items.get(equipment[offset]));
+        equipment[offset] = items.register(item);
+        addBonus(index, item);
+    }
+
+    private void addBonus(int index, Item item) {
+        if (item instanceof Armor armor) {
+            final PrimaryAttribute attributes = armor.getAttributes();
+            armorStrength[index] += attributes.strength();
+            armorDexterity[index] += attributes.dexterity();
+            armorIntelligence[index] += attributes.intelligence();
+        } else if (item instanceof Weapon weapon) {
+            weaponDPS[index] = weapon.dpsAsDouble() != 0 ? weapon.dpsAsDouble() : 1;
+        }
+    }
+
+    private void removeBonus(int index, Item item) {
+        if (item instanceof Armor armor) {
+            final PrimaryAttribute attributes = armor.getAttributes();
+            armorStrength[index] -= attributes.strength();
+            armorDexterity[index] -= attributes.dexterity();
+            armorIntelligence[index] -= attributes.intelligence();
+        } else if (item instanceof Weapon) {
+            weaponDPS[index] = 1;
+        }
+    }
+
+    private void recompute(int index) {
+        final CharacterClass characterClass = CharacterClass.byId(classIds[index]);
+        final LevelTable levelTable = characterClass.getLevelTable();
+        final int level = levels[index];
+
+        final int strength = levelTable.strength(level) + armorStrength[index];
+        final int dexterity = levelTable.dexterity(level) + armorDexterity[index];
+        final int intelligence = levelTable.intelligence(level) + armorIntelligence[index];
+        totalStrength[index] = strength;
+        totalDexterity[index] = dexterity;
+        totalIntelligence[index] = intelligence;
+
+        final AttributeType mainAttribute = characterClass.getMainAttribute();
+        dps[index] = weaponDPS[index]
+                * characterClass.getDamageMultiplier(mainAttribute.of(strength, dexterity, intelligence));
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size);
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        final int capacity = levels.length;
+        if (minCapacity <= capacity)
+            return;
+        final int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        classIds = Arrays.copyOf(classIds, newCapacity);
+        levels = Arrays.copyOf(levels, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        equipment = Arrays.copyOf(equipment, newCapacity * SLOT_COUNT);
+        armorStrength = Arrays.copyOf(armorStrength, newCapacity);
+        armorDexterity = Arrays.copyOf(armorDexterity, newCapacity);
+        armorIntelligence = Arrays.copyOf(armorIntelligence, newCapacity);
+        totalStrength = Arrays.copyOf(totalStrength, newCapacity);
+        totalDexterity = Arrays.copyOf(totalDexterity, newCapacity);
+        totalIntelligence = Arrays.copyOf(totalIntelligence, newCapacity);
+        weaponDPS = Arrays.copyOf(weaponDPS, newCapacity);
+        dps = Arrays.copyOf(dps, newCapacity);
+    }
+
+    /**
+     * Flyweight {@link CharacterView} over a single row of the store.
+     */
+    public final class View implements CharacterView {
+
+        private int index;
+
+        private View() {
+        }
+
+        public View moveTo(int index) {
+            this.index = checkIndex(index);
+            return this;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        @Override
+        public String getName() {
+            return names[index];
+        }
+
+        @Override
+        public Integer getLevel() {
+            return levels[index];
+        }
+
+        @Override
+        public CharacterClass getCharacterClass() {
+            return CharacterClass.byId(classIds[index]);
+        }
+
+        @Override
+        public PrimaryAttribute getBasePrimaryAttributes() {
+            return getCharacterClass().getBasePrimaryAttributes();
+        }
+
+        @Override
+        public PrimaryAttribute getGainedPrimaryAttributes() {
+            return getCharacterClass().getGainedPrimaryAttributes(levels[index]);
+        }
+
+        @Override
+        public List<ArmorType> getValidArmorTypes() {
+            return getCharacterClass().getValidArmorTypes();
+        }
+
+        @Override
+        public List<WeaponType> getValidWeaponTypes() {
+            return getCharacterClass().getValidWeaponTypes();
+        }
+
+        @Override
+        public PrimaryAttribute getTotalPrimaryAttributes() {
+            return PrimaryAttribute.of(totalStrength[index], totalDexterity[index], totalIntelligence[index]);
+        }
+
+        @Override
+        public PrimaryAttribute getEquippedArmorAttributes() {
+            return PrimaryAttribute.of(armorStrength[index], armorDexterity[index], armorIntelligence[index]);
+        }
+
+        @Override
+        public Double getEquippedWeaponDPS() {
+            return equippedWeaponDpsAsDouble();
+        }
+
+        @Override
+        public double equippedWeaponDpsAsDouble() {
+            return weaponDPS[index];
+        }
+
+        @Override
+        public Double getDPS() {
+            return dpsAsDouble();
+        }
+
+        @Override
+        public double dpsAsDouble() {
+            return dps[index];
+        }
+
+        @Override
+        public Item getEquipment(Slot slot) {
+            return items.get(equipment[index * SLOT_COUNT + slot.ordinal()]);
+        }
+
+    }
+
+}
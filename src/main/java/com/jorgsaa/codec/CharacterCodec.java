@@ -0,0 +1,128 @@
+package com.jorgsaa.codec;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary codec for {@link Character}. Equipment follows a bitmask of the occupied {@link Slot}s, in slot
+ * order, either inline or as {@link ItemRegistry} ids when the high bit of the mask is set.
+ * <pre>
+ * character := version:u8 class:u8 name:string level:svarint slots:u8 (item-body* | itemId:uvarint*)
+ * </pre>
+ * Decoding restores equipment without re-validating it, so a character whose level was lowered after
+ * equipping round-trips unchanged.
+ */
+public final class CharacterCodec {
+
+    public static final byte VERSION = ItemCodec.VERSION;
+
+    private static final CharacterClass[] CLASSES = CharacterClass.values();
+    private static final Slot[] SLOTS = Slot.values();
+    private static final int ITEM_IDS = 0x80;
+
+    private CharacterCodec() {
+    }
+
+    public static void encode(Character character, ByteBuffer buffer) {
+        writeHeader(character, buffer, 0);
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null)
+                ItemCodec.writeBody(item, buffer);
+        }
+    }
+
+    /**
+     * Writes equipment as ids of the registry, registering any item it does not know yet.
+     */
+    public static void encode(Character character, ItemRegistry items, ByteBuffer buffer) {
+        writeHeader(character, buffer, ITEM_IDS);
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null)
+                VarInt.putUnsigned(buffer, items.register(item));
+        }
+    }
+
+    public static Character decode(ByteBuffer buffer) {
+        return decode(buffer, null);
+    }
+
+    /**
+     * Decodes a character written in either form. Inline items are interned in the registry when one
+     * is given, so identical items decode to one shared instance.
+     */
+    public static Character decode(ByteBuffer buffer, ItemRegistry items) {
+        ItemCodec.checkVersion(buffer.get());
+        final CharacterClass characterClass = ItemCodec.readOrdinal(CLASSES, "character class", buffer);
+        final Character character = characterClass.newCharacter(VarInt.getString(buffer));
+        character.restoreLevel(VarInt.getSigned(buffer));
+
+        final int slots = buffer.get() & 0xFF;
+        final boolean itemIds = (slots & ITEM_IDS) != 0;
+        if (itemIds && items == null)
+            throw new IllegalArgumentException("Character was encoded with item ids but no registry was given");
+
+        for (Slot slot : SLOTS) {
+            if ((slots & (1 << slot.ordinal())) == 0)
+                continue;
+            if (itemIds)
+                character.restoreEquipment(items.get(VarInt.getUnsigned(buffer)));
+            else if (items != null)
+                character.restoreEquipment(items.intern(ItemCodec.readBody(buffer)));
+            else
+                character.restoreEquipment(ItemCodec.readBody(buffer));
+        }
+        return character;
+    }
+
+    public static int encodedSize(Character character) {
+        int size = headerSize(character);
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null)
+                size += ItemCodec.bodySize(item);
+        }
+        return size;
+    }
+
+    /**
+     * Returns the size of the character encoded with item ids, without registering anything. Items the
+     * registry does not know yet are counted at the largest id size, so the result is an upper bound
+     * unless every item is already registered.
+     */
+    public static int encodedSize(Character character, ItemRegistry items) {
+        int size = headerSize(character);
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null) {
+                final int id = items.idOf(item);
+                size += VarInt.unsignedSize(id != ItemRegistry.NO_ITEM ? id : Integer.MAX_VALUE);
+            }
+        }
+        return size;
+    }
+
+    private static void writeHeader(Character character, ByteBuffer buffer, int flags) {
+        buffer.put(VERSION);
+        buffer.put((byte) character.getCharacterClass().getId());
+        VarInt.putString(buffer, character.getName());
+        VarInt.putSigned(buffer, character.getLevel());
+
+        int slots = flags;
+        for (Slot slot : SLOTS)
+            if (character.getEquipment(slot) != null)
+                slots |= 1 << slot.ordinal();
+        buffer.put((byte) slots);
+    }
+
+    private static int headerSize(Character character) {
+        return 2 + VarInt.stringSize(character.getName()) + VarInt.signedSize(character.getLevel()) + 1;
+    }
+
+}
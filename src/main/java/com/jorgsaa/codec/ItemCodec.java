@@ -0,0 +1,121 @@
+package com.jorgsaa.codec;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary codec for {@link Armor} and {@link Weapon}.
+ * <pre>
+ * item   := version:u8 body
+ * body   := kind:u8 name:string requiredLevel:svarint (armor | weapon)
+ * armor  := slot:u8 type:u8 strength:svarint dexterity:svarint intelligence:svarint
+ * weapon := type:u8 damage:f64 attackSpeed:f64
+ * </pre>
+ */
+public final class ItemCodec {
+
+    public static final byte VERSION = 1;
+
+    private static final byte ARMOR = 0;
+    private static final byte WEAPON = 1;
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final ArmorType[] ARMOR_TYPES = ArmorType.values();
+    private static final WeaponType[] WEAPON_TYPES = WeaponType.values();
+
+    private ItemCodec() {
+    }
+
+    public static void encode(Item item, ByteBuffer buffer) {
+        buffer.put(VERSION);
+        writeBody(item, buffer);
+    }
+
+    public static Item decode(ByteBuffer buffer) {
+        checkVersion(buffer.get());
+        return readBody(buffer);
+    }
+
+    public static int encodedSize(Item item) {
+        return 1 + bodySize(item);
+    }
+
+    static void writeBody(Item item, ByteBuffer buffer) {
+        if (item instanceof Armor armor) {
+            buffer.put(ARMOR);
+            writeCommon(item, buffer);
+            buffer.put((byte) armor.getSlot().ordinal());
+            buffer.put((byte) armor.getType().ordinal());
+            final PrimaryAttribute attributes = armor.getAttributes();
+            VarInt.putSigned(buffer, attributes.strength());
+            VarInt.putSigned(buffer, attributes.dexterity());
+            VarInt.putSigned(buffer, attributes.intelligence());
+        } else if (item instanceof Weapon weapon) {
+            buffer.put(WEAPON);
+            writeCommon(item, buffer);
+            buffer.put((byte) weapon.getType().ordinal());
+            buffer.putDouble(weapon.getDamage());
+            buffer.putDouble(weapon.getAttackSpeed());
+        } else {
+            throw new IllegalArgumentException("Unsupported item type: " + item.getClass().getName());
+        }
+    }
+
+    static Item readBody(ByteBuffer buffer) {
+        final byte kind = buffer.get();
+        final String name = VarInt.getString(buffer);
+        final int requiredLevel = VarInt.getSigned(buffer);
+        return switch (kind) {
+            case ARMOR -> new Armor(
+                    name,
+                    requiredLevel,
+                    readOrdinal(SLOTS, "slot", buffer),
+                    readOrdinal(ARMOR_TYPES, "armor type", buffer),
+                    PrimaryAttribute.of(VarInt.getSigned(buffer), VarInt.getSigned(buffer), VarInt.getSigned(buffer))
+            );
+            case WEAPON -> new Weapon(name, requiredLevel, readOrdinal(WEAPON_TYPES, "weapon type", buffer), buffer.getDouble(), buffer.getDouble());
+            default -> throw new IllegalArgumentException("Unknown item kind: " + kind);
+        };
+    }
+
+    static int bodySize(Item item) {
+        final int common = 1 + VarInt.stringSize(item.getName()) + VarInt.signedSize(item.getRequiredLevel());
+        if (item instanceof Armor armor) {
+            final PrimaryAttribute attributes = armor.getAttributes();
+            return common + 2
+                    + VarInt.signedSize(attributes.strength())
+                    + VarInt.signedSize(attributes.dexterity())
+                    + VarInt.signedSize(attributes.intelligence());
+        }
+        return common + 1 + 2 * Double.BYTES;
+    }
+
+    /**
+     * Reads a one-byte id and returns the value it indexes, rejecting ids outside the array.
+     */
+    static <T> T readOrdinal(T[] values, String kind, ByteBuffer buffer) {
+        final int offset = buffer.position();
+        final byte id = buffer.get();
+        if (id < 0 || id >= values.length)
+            throw new IllegalArgumentException(String.format("Unknown %s id %d at offset %d", kind, id, offset));
+        return values[id];
+    }
+
+    static void checkVersion(byte version) {
+        if (version != VERSION)
+            throw new IllegalArgumentException("Unsupported format version: " + version);
+    }
+
+    private static void writeCommon(Item item, ByteBuffer buffer) {
+        VarInt.putString(buffer, item.getName());
+        VarInt.putSigned(buffer, item.getRequiredLevel());
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.jorgsaa.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * LEB128 style variable length integers and length prefixed UTF-8 strings, read and written directly
+ * against a {@link ByteBuffer}. Signed values are zigzag encoded so small negatives stay small.
+ */
+public final class VarInt {
+
+    private VarInt() {
+    }
+
+    public static void putUnsigned(ByteBuffer buffer, int value) {
+        while ((value & ~0x7F) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    public static int getUnsigned(ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            final byte b = buffer.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return value;
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    public static void putSigned(ByteBuffer buffer, int value) {
+        putUnsigned(buffer, (value << 1) ^ (value >> 31));
+    }
+
+    public static int getSigned(ByteBuffer buffer) {
+        final int value = getUnsigned(buffer);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public static int unsignedSize(int value) {
+        int size = 1;
+        while ((value & ~0x7F) != 0) {
+            size++;
+            value >>>= 7;
+        }
+        return size;
+    }
+
+    public static int signedSize(int value) {
+        return unsignedSize((value << 1) ^ (value >> 31));
+    }
+
+    public static void putString(ByteBuffer buffer, String value) {
+        putUnsigned(buffer, utf8Length(value));
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                buffer.put((byte) c);
+            } else if (c < 0x800) {
+                buffer.put((byte) (0xC0 | (c >> 6)));
+                buffer.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                // Unpaired surrogates are written as '?', as String.getBytes does
+                final char encodable = Character.isSurrogate(c) ? '?' : c;
+                if (encodable < 0x80) {
+                    buffer.put((byte) encodable);
+                } else {
+                    buffer.put((byte) (0xE0 | (encodable >> 12)));
+                    buffer.put((byte) (0x80 | ((encodable >> 6) & 0x3F)));
+                    buffer.put((byte) (0x80 | (encodable & 0x3F)));
+                }
+            }
+        }
+    }
+
+    public static String getString(ByteBuffer buffer) {
+        final int length = getUnsigned(buffer);
+        if (length > buffer.remaining())
+            throw new IllegalArgumentException("String length " + length + " exceeds remaining " + buffer.remaining());
+        if (buffer.hasArray()) {
+            final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static int stringSize(String value) {
+        final int length = utf8Length(value);
+        return unsignedSize(length) + length;
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += Character.isSurrogate(c) ? 1 : 3;
+            }
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.jorgsaa.combat;
+
+/**
+ * Tunables for a fight. Each hit deals its damage scaled by a uniform factor in
+ * {@code [1 - damageVariance, 1 + damageVariance]}, and a fight nobody has won after
+ * {@code maxDuration} seconds is a draw.
+ */
+public record CombatRules(double damageVariance, double maxDuration) {
+
+    public static final CombatRules DEFAULT = new CombatRules(0.1, 300);
+
+    public CombatRules {
+        if (!(damageVariance >= 0 && damageVariance <= 1))
+            throw new IllegalArgumentException("Damage variance must be between 0 and 1: " + damageVariance);
+        if (!(maxDuration > 0))
+            throw new IllegalArgumentException("Max duration must be positive: " + maxDuration);
+    }
+
+}
@@ -0,0 +1,217 @@
+package com.jorgsaa.combat;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Discrete-event simulator for one-on-one fights, run in bulk on a fork-join pool.
+ * <p>
+ * Each side attacks at its own interval, starting at a random offset within its first interval, and
+ * attacks landing at the same instant are resolved together. Every fight draws its random numbers from
+ * a generator seeded by the simulator seed and the index of the fight alone, so every fight has the same
+ * result for any parallelism or chunk size. Summed durations are added in a fixed tree order and only
+ * depend on the chunk size.
+ */
+public class CombatSimulator implements AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final CombatRules rules;
+    private final long seed;
+
+    public CombatSimulator(long seed) {
+        this(seed, CombatRules.DEFAULT, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CombatSimulator(long seed, CombatRules rules, int parallelism, int chunkSize) {
+        if (chunkSize < 1)
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        this.pool = new ForkJoinPool(parallelism);
+        this.chunkSize = chunkSize;
+        this.rules = rules;
+        this.seed = seed;
+    }
+
+    public CombatRules getRules() {
+        return rules;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Simulates the fight with the given index. Calling this again with the same index gives the same
+     * result.
+     */
+    public FightResult fight(Combatant first, Combatant second, long fightIndex) {
+        long state = mix(seed + fightIndex * GOLDEN_GAMMA);
+        final double firstInterval = first.attackInterval();
+        final double secondInterval = second.attackInterval();
+        final double variance = rules.damageVariance();
+
+        state += GOLDEN_GAMMA;
+        double firstNext = toDouble(mix(state)) * firstInterval;
+        state += GOLDEN_GAMMA;
+        double secondNext = toDouble(mix(state)) * secondInterval;
+        double firstHealth = first.health();
+        double secondHealth = second.health();
+        int attacks = 0;
+
+        while (true) {
+            final double time = Math.min(firstNext, secondNext);
+            if (!(time <= rules.maxDuration()))
+                return new FightResult(Outcome.DRAW, rules.maxDuration(), attacks);
+
+            if (firstNext == time) {
+                state += GOLDEN_GAMMA;
+                secondHealth -= first.hitDamage() * (1 + variance * (2 * toDouble(mix(state)) - 1));
+                firstNext += firstInterval;
+                attacks++;
+            }
+            if (secondNext == time) {
+                state += GOLDEN_GAMMA;
+                firstHealth -= second.hitDamage() * (1 + variance * (2 * toDouble(mix(state)) - 1));
+                secondNext += secondInterval;
+                attacks++;
+            }
+
+            if (firstHealth <= 0 && secondHealth <= 0)
+                return new FightResult(Outcome.DRAW, time, attacks);
+            if (secondHealth <= 0)
+                return new FightResult(Outcome.FIRST_WINS, time, attacks);
+            if (firstHealth <= 0)
+                return new FightResult(Outcome.SECOND_WINS, time, attacks);
+        }
+    }
+
+    /**
+     * Runs fights {@code 0} to {@code fights - 1} between the two combatants in parallel.
+     */
+    public MatchupResult simulate(Combatant first, Combatant second, int fights) {
+        if (fights < 0)
+            throw new IllegalArgumentException("Fight count must not be negative: " + fights);
+        if (fights == 0)
+            return MatchupResult.EMPTY;
+        return pool.invoke(new MatchupTask(first, second, 0, 0, fights));
+    }
+
+    /**
+     * Pits every combatant against every other. Entry {@code [i][j]} holds the fights with combatant
+     * {@code i} attacking as the first side, and the diagonal is left empty.
+     */
+    public MatchupResult[][] roundRobin(List<Combatant> combatants, int fightsPerPair) {
+        if (fightsPerPair < 0)
+            throw new IllegalArgumentException("Fight count must not be negative: " + fightsPerPair);
+        final int size = combatants.size();
+        final MatchupResult[][] results = new MatchupResult[size][size];
+        if (size == 0)
+            return results;
+        pool.invoke(new PairTask(0, size * size, (from, to) -> {
+            for (int pair = from; pair < to; pair++) {
+                final int i = pair / size;
+                final int j = pair % size;
+                results[i][j] = i == j ? MatchupResult.EMPTY
+                        : run(combatants.get(i), combatants.get(j), (long) pair * fightsPerPair, 0, fightsPerPair);
+            }
+        }));
+        return results;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private MatchupResult run(Combatant first, Combatant second, long firstFight, int from, int to) {
+        long firstWins = 0;
+        long secondWins = 0;
+        long draws = 0;
+        double totalDuration = 0;
+        for (int i = from; i < to; i++) {
+            final FightResult fight = fight(first, second, firstFight + i);
+            switch (fight.outcome()) {
+                case FIRST_WINS -> firstWins++;
+                case SECOND_WINS -> secondWins++;
+                case DRAW -> draws++;
+            }
+            totalDuration += fight.duration();
+        }
+        return new MatchupResult(to - from, firstWins, secondWins, draws, totalDuration);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static double toDouble(long bits) {
+        return (bits >>> 11) * 0x1.0p-53;
+    }
+
+    @FunctionalInterface
+    private interface RangeAction {
+        void apply(int from, int to);
+    }
+
+    private class MatchupTask extends RecursiveTask<MatchupResult> {
+
+        private final Combatant first;
+        private final Combatant second;
+        private final long firstFight;
+        private final int from;
+        private final int to;
+
+        MatchupTask(Combatant first, Combatant second, long firstFight, int from, int to) {
+            this.first = first;
+            this.second = second;
+            this.firstFight = firstFight;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected MatchupResult compute() {
+            if (to - from <= chunkSize)
+                return run(first, second, firstFight, from, to);
+            final int middle = (from + to) >>> 1;
+            final MatchupTask left = new MatchupTask(first, second, firstFight, from, middle);
+            left.fork();
+            final MatchupResult right = new MatchupTask(first, second, firstFight, middle, to).compute();
+            return left.join().merge(right);
+        }
+
+    }
+
+    private static class PairTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final RangeAction action;
+
+        PairTask(int from, int to, RangeAction action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                action.apply(from, to);
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            invokeAll(new PairTask(from, middle, action), new PairTask(middle, to, action));
+        }
+
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.jorgsaa.combat;
+
+import com.jorgsaa.character.CharacterView;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.weapon.Weapon;
+
+/**
+ * Immutable combat stats of one side of a fight. Each attack deals {@code hitDamage} and attacks happen
+ * {@code attackSpeed} times per second.
+ */
+public record Combatant(String name, double hitDamage, double attackSpeed, double health) {
+
+    public Combatant {
+        if (!(hitDamage >= 0) || !(attackSpeed >= 0))
+            throw new IllegalArgumentException("Damage and attack speed must not be negative");
+        if (!(health > 0))
+            throw new IllegalArgumentException("Health must be positive: " + health);
+    }
+
+    /**
+     * Takes damage and attack speed from the equipped weapon, scaled by the class damage multiplier. An
+     * unarmed character, or one whose weapon has no DPS, hits for the multiplier once per second, matching
+     * its DPS.
+     */
+    public static Combatant of(CharacterView character, double health) {
+        final double multiplier = character.getCharacterClass().getDamageMultiplier(
+                character.getCharacterClass().getMainAttribute().of(character.getTotalPrimaryAttributes()));
+        if (character.getEquipment(Slot.WEAPON) instanceof Weapon weapon && weapon.dpsAsDouble() != 0)
+            return new Combatant(character.getName(), weapon.getDamage() * multiplier, weapon.getAttackSpeed(), health);
+        return new Combatant(character.getName(), multiplier, 1, health);
+    }
+
+    /**
+     * A target that never attacks.
+     */
+    public static Combatant dummy(String name, double health) {
+        return new Combatant(name, 0, 0, health);
+    }
+
+    public double dps() {
+        return hitDamage * attackSpeed;
+    }
+
+    double attackInterval() {
+        return attackSpeed > 0 ? 1 / attackSpeed : Double.POSITIVE_INFINITY;
+    }
+
+}
@@ -0,0 +1,4 @@
+package com.jorgsaa.combat;
+
+public record FightResult(Outcome outcome, double duration, int attacks) {
+}
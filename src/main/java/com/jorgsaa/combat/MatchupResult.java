@@ -0,0 +1,31 @@
+package com.jorgsaa.combat;
+
+/**
+ * Aggregated outcome of repeated fights between the same two combatants.
+ */
+public record MatchupResult(long fights, long firstWins, long secondWins, long draws, double totalDuration) {
+
+    public static final MatchupResult EMPTY = new MatchupResult(0, 0, 0, 0, 0);
+
+    public MatchupResult merge(MatchupResult other) {
+        return new MatchupResult(
+                fights + other.fights,
+                firstWins + other.firstWins,
+                secondWins + other.secondWins,
+                draws + other.draws,
+                totalDuration + other.totalDuration);
+    }
+
+    public double firstWinRate() {
+        return fights == 0 ? 0 : (double) firstWins / fights;
+    }
+
+    public double secondWinRate() {
+        return fights == 0 ? 0 : (double) secondWins / fights;
+    }
+
+    public double meanDuration() {
+        return fights == 0 ? 0 : totalDuration / fights;
+    }
+
+}
@@ -0,0 +1,7 @@
+package com.jorgsaa.combat;
+
+public enum Outcome {
+    FIRST_WINS,
+    SECOND_WINS,
+    DRAW
+}
@@ -0,0 +1,108 @@
+package com.jorgsaa.event;
+
+import com.jorgsaa.codec.VarInt;
+import com.jorgsaa.item.Slot;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Append-only log of character mutations in a compact binary form. Each event is the character id
+ * followed by a tag and its payload:
+ * <pre>
+ * event := characterId:uvarint (EQUIP+slot itemId:uvarint | LEVEL_UP | SET_LEVEL level:svarint)
+ * </pre>
+ * Events are only appended after the mutation they describe has been validated and applied.
+ * Appends are synchronized so characters mutated on different threads can share a log.
+ */
+public class EventLog {
+
+    static final byte EQUIP = 0x00;
+    static final int SLOT_COUNT = Slot.values().length;
+    static final byte LEVEL_UP = 0x10;
+    static final byte SET_LEVEL = 0x11;
+
+    static {
+        if (EQUIP + SLOT_COUNT > LEVEL_UP)
+            throw new IllegalStateException("Equip tags of " + SLOT_COUNT + " slots overlap LEVEL_UP");
+    }
+
+    // characterId + tag + payload
+    private static final int MAX_EVENT_SIZE = 5 + 1 + 5;
+
+    private ByteBuffer buffer;
+    private long sequence;
+
+    public EventLog() {
+        this(4096);
+    }
+
+    public EventLog(int initialCapacity) {
+        buffer = ByteBuffer.allocate(Math.max(MAX_EVENT_SIZE, initialCapacity));
+    }
+
+    /**
+     * Reopens a log from previously written bytes, such as those returned by {@link #events(int)}.
+     */
+    public static EventLog of(ByteBuffer events, long sequence) {
+        final EventLog log = new EventLog(events.remaining());
+        log.buffer.put(events.duplicate());
+        log.sequence = sequence;
+        return log;
+    }
+
+    public synchronized void appendEquip(int characterId, Slot slot, int itemId) {
+        ensureCapacity();
+        VarInt.putUnsigned(buffer, characterId);
+        buffer.put((byte) (EQUIP + slot.ordinal()));
+        VarInt.putUnsigned(buffer, itemId);
+        sequence++;
+    }
+
+    public synchronized void appendLevelUp(int characterId) {
+        ensureCapacity();
+        VarInt.putUnsigned(buffer, characterId);
+        buffer.put(LEVEL_UP);
+        sequence++;
+    }
+
+    public synchronized void appendSetLevel(int characterId, int level) {
+        ensureCapacity();
+        VarInt.putUnsigned(buffer, characterId);
+        buffer.put(SET_LEVEL);
+        VarInt.putSigned(buffer, level);
+        sequence++;
+    }
+
+    /**
+     * Number of events appended so far.
+     */
+    public synchronized long sequence() {
+        return sequence;
+    }
+
+    /**
+     * Size of the log in bytes; the offset the next event will be written at.
+     */
+    public synchronized int offset() {
+        return buffer.position();
+    }
+
+    /**
+     * Read-only view of the events written from the offset up to now.
+     */
+    public synchronized ByteBuffer events(int fromOffset) {
+        final ByteBuffer view = buffer.asReadOnlyBuffer();
+        view.limit(buffer.position()).position(fromOffset);
+        return view.slice();
+    }
+
+    private void ensureCapacity() {
+        if (buffer.remaining() >= MAX_EVENT_SIZE)
+            return;
+        final ByteBuffer grown = ByteBuffer.wrap(Arrays.copyOf(buffer.array(), buffer.capacity() * 2));
+        grown.position(buffer.position());
+        buffer = grown;
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.jorgsaa.event;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterListener;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+
+/**
+ * Appends the mutations of one character to an {@link EventLog}, referencing items by registry id.
+ */
+public class EventRecorder implements CharacterListener {
+
+    private final int characterId;
+    private final EventLog log;
+    private final ItemRegistry items;
+
+    public EventRecorder(int characterId, EventLog log, ItemRegistry items) {
+        this.characterId = characterId;
+        this.log = log;
+        this.items = items;
+    }
+
+    public static EventRecorder attach(Character character, int characterId, EventLog log, ItemRegistry items) {
+        final EventRecorder recorder = new EventRecorder(characterId, log, items);
+        character.addListener(recorder);
+        return recorder;
+    }
+
+    @Override
+    public void equipped(Character character, Item previous, Item item) {
+        log.appendEquip(characterId, item.getSlot(), items.register(item));
+    }
+
+    @Override
+    public void levelChanged(Character character, int previousLevel, int level) {
+        if (level == previousLevel + 1)
+            log.appendLevelUp(characterId);
+        else
+            log.appendSetLevel(characterId, level);
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.jorgsaa.event;
+
+import com.jorgsaa.codec.VarInt;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.item.ItemRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Applies logged events to characters. Events were validated when they were first applied, so equipment
+ * is restored directly instead of going through {@code equip} again, and levels are restored so replayed
+ * changes are not counted in metrics or emitted as events a second time.
+ */
+public final class EventReplayer {
+
+    private EventReplayer() {
+    }
+
+    /**
+     * Replays every event in the buffer onto the characters, indexed by character id.
+     *
+     * @return the number of events applied
+     */
+    public static long replay(ByteBuffer events, List<? extends Character> characters, ItemRegistry items) {
+        long applied = 0;
+        while (events.hasRemaining()) {
+            final Character character = characters.get(VarInt.getUnsigned(events));
+            final byte tag = events.get();
+            if (tag == EventLog.LEVEL_UP)
+                character.restoreLevel(character.getLevel() + 1);
+            else if (tag == EventLog.SET_LEVEL)
+                character.restoreLevel(VarInt.getSigned(events));
+            else if (tag >= EventLog.EQUIP && tag < EventLog.EQUIP + EventLog.SLOT_COUNT)
+                character.restoreEquipment(items.get(VarInt.getUnsigned(events)));
+            else
+                throw new IllegalArgumentException("Unknown event tag: " + tag);
+            applied++;
+        }
+        return applied;
+    }
+
+}
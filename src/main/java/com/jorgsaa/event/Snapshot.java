@@ -0,0 +1,52 @@
+package com.jorgsaa.event;
+
+import com.jorgsaa.codec.CharacterCodec;
+import com.jorgsaa.codec.VarInt;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.item.ItemRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Encoded state of a roster at a position in an {@link EventLog}. Recovery decodes the snapshot and
+ * replays only the events written after it.
+ *
+ * @param logOffset byte offset in the log the snapshot was taken at
+ * @param sequence  number of events in the log when the snapshot was taken
+ * @param data      the characters, encoded with {@link CharacterCodec} using item ids
+ */
+public record Snapshot(int logOffset, long sequence, ByteBuffer data) {
+
+    /**
+     * Captures the characters, indexed by character id. Callers must not mutate the characters while the
+     * snapshot is taken, so the log position matches the encoded state.
+     */
+    public static Snapshot take(List<? extends Character> characters, ItemRegistry items, EventLog log) {
+        int size = VarInt.unsignedSize(characters.size());
+        for (Character character : characters)
+            size += CharacterCodec.encodedSize(character, items);
+
+        final ByteBuffer data = ByteBuffer.allocate(size);
+        VarInt.putUnsigned(data, characters.size());
+        for (Character character : characters)
+            CharacterCodec.encode(character, items, data);
+        data.flip();
+        return new Snapshot(log.offset(), log.sequence(), data.asReadOnlyBuffer());
+    }
+
+    /**
+     * Rebuilds the roster from the snapshot and the events the log received after it.
+     */
+    public List<Character> restore(EventLog log, ItemRegistry items) {
+        final ByteBuffer buffer = data.duplicate();
+        final int count = VarInt.getUnsigned(buffer);
+        final List<Character> characters = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            characters.add(CharacterCodec.decode(buffer, items));
+        EventReplayer.replay(log.events(logOffset), characters, items);
+        return characters;
+    }
+
+}
@@ -0,0 +1,38 @@
+package com.jorgsaa.item;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.InvalidArmorException;
+import com.jorgsaa.item.weapon.InvalidWeaponException;
+import com.jorgsaa.item.weapon.Weapon;
+
+public enum EquipResult {
+    EQUIPPED(null),
+    LEVEL_INSUFFICIENT(ItemExceptionType.LEVEL_INSUFFICIENT),
+    CLASS_INCOMPATIBLE(ItemExceptionType.CLASS_INCOMPATIBLE);
+
+    private final ItemExceptionType exceptionType;
+
+    EquipResult(ItemExceptionType exceptionType) {
+        this.exceptionType = exceptionType;
+    }
+
+    public boolean isSuccess() {
+        return this == EQUIPPED;
+    }
+
+    /**
+     * The reason the item was rejected, or {@code null} if it can be equipped.
+     */
+    public ItemExceptionType getExceptionType() {
+        return exceptionType;
+    }
+
+    public InvalidItemException toException(Character character, Item item) {
+        if (isSuccess())
+            throw new IllegalStateException("Item can be equipped: " + item.getName());
+        if (item instanceof Weapon weapon)
+            return new InvalidWeaponException(exceptionType, character, weapon);
+        return new InvalidArmorException(exceptionType, character, (Armor) item);
+    }
+}
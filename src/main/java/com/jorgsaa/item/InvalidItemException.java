@@ -0,0 +1,55 @@
+package com.jorgsaa.item;
+
+import com.jorgsaa.character.Character;
+
+/**
+ * Base for item exceptions. The message is only formatted when first requested. Characters are captured
+ * by name and level when the exception is created, so the message describes the rejected state and the
+ * exception does not keep the character alive. The message therefore names a character as
+ * {@code <name> (Level <level>)} rather than with its full {@code toString()}, which would have to be
+ * built eagerly. Stack traces can be disabled per exception, or for all item exceptions with the system
+ * property {@code com.jorgsaa.item.stackTraces=false}.
+ */
+public abstract class InvalidItemException extends RuntimeException {
+
+    protected static final boolean STACK_TRACES =
+            Boolean.parseBoolean(System.getProperty("com.jorgsaa.item.stackTraces", "true"));
+
+    private final ItemExceptionType type;
+    private final transient Object[] arguments;
+    private String message;
+
+    protected InvalidItemException(ItemExceptionType type, boolean writableStackTrace, Object... arguments) {
+        super(null, null, false, writableStackTrace);
+        this.type = type;
+        this.arguments = arguments;
+    }
+
+    /**
+     * Immutable stand-in for a character in a message, formatted as {@code <name> (Level <level>)}.
+     */
+    protected static Object describe(Character character) {
+        return new CharacterDescription(character.getName(), character.getLevel());
+    }
+
+    public ItemExceptionType getType() {
+        return type;
+    }
+
+    @Override
+    public String getMessage() {
+        if (message == null && arguments != null)
+            message = String.format(type.getMessage(), arguments);
+        return message;
+    }
+
+    private record CharacterDescription(String name, int level) {
+
+        @Override
+        public String toString() {
+            return name + " (Level " + level + ")";
+        }
+
+    }
+
+}
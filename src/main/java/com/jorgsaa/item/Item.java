@@ -1,5 +1,7 @@
 package com.jorgsaa.item;
 
+import java.util.Objects;
+
 public abstract class Item {
 
     private final String name;
@@ -24,4 +26,17 @@ public abstract class Item {
         return slot;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Item item = (Item) o;
+        return Objects.equals(name, item.name) && Objects.equals(requiredLevel, item.requiredLevel) && slot == item.slot;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, requiredLevel, slot);
+    }
+
 }
@@ -0,0 +1,71 @@
+package com.jorgsaa.item;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns items by value and assigns each distinct item a small, dense integer id, so identical items
+ * share one instance and can be referenced from primitive columns or serialized by id.
+ * <p>
+ * Safe for concurrent use. Lookups by id and {@link #size()} never lock; registering a new item locks only
+ * when the item has not been seen before.
+ */
+public class ItemRegistry {
+
+    public static final int NO_ITEM = -1;
+
+    private final Map<Item, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Item[] items = new Item[16];
+    // Written only under the lock, after the item is stored, so readers that see a size see its items
+    private volatile int size;
+
+    /**
+     * Returns the id of the item, registering it first if no equal item is known.
+     */
+    public int register(Item item) {
+        final Integer id = ids.get(item);
+        if (id != null)
+            return id;
+        synchronized (this) {
+            final Integer existing = ids.get(item);
+            if (existing != null)
+                return existing;
+            final int newId = size;
+            Item[] array = items;
+            if (newId == array.length)
+                array = Arrays.copyOf(array, newId * 2);
+            array[newId] = item;
+            items = array;
+            ids.put(item, newId);
+            size = newId + 1;
+            return newId;
+        }
+    }
+
+    /**
+     * Returns the shared instance equal to the item, registering the item itself if none is known.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Item> T intern(T item) {
+        return (T) get(register(item));
+    }
+
+    public int idOf(Item item) {
+        return ids.getOrDefault(item, NO_ITEM);
+    }
+
+    public Item get(int id) {
+        if (id == NO_ITEM)
+            return null;
+        final Item item = items[id];
+        if (item == null)
+            throw new IndexOutOfBoundsException("Unknown item id: " + id);
+        return item;
+    }
+
+    public int size() {
+        return size;
+    }
+
+}
@@ -5,6 +5,9 @@ import com.jorgsaa.item.Item;
 import com.jorgsaa.item.ItemExceptionType;
 import com.jorgsaa.item.Slot;
 
+import java.util.Locale;
+import java.util.Objects;
+
 public class Armor extends Item {
 
     private final ArmorType type;
@@ -28,7 +31,19 @@ public class Armor extends Item {
 
     @Override
     public String toString() {
-        return String.format("%s (Level %d) %s ", getName(), getRequiredLevel(), attributes);
+        return String.format(Locale.ROOT, "%s (Level %d) %s ", getName(), getRequiredLevel(), attributes);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        Armor armor = (Armor) o;
+        return type == armor.type && Objects.equals(attributes, armor.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * super.hashCode() + Objects.hashCode(type)) + Objects.hashCode(attributes);
     }
 
 }
@@ -1,17 +1,22 @@
 package com.jorgsaa.item.armor;
 
 import com.jorgsaa.character.Character;
+import com.jorgsaa.item.InvalidItemException;
 import com.jorgsaa.item.ItemExceptionType;
 import com.jorgsaa.item.Slot;
 
-public class InvalidArmorException extends RuntimeException {
+public class InvalidArmorException extends InvalidItemException {
 
     public InvalidArmorException(ItemExceptionType type, Character character, Armor armor) {
-        super(String.format(type.getMessage(), character, armor));
+        this(type, character, armor, STACK_TRACES);
+    }
+
+    public InvalidArmorException(ItemExceptionType type, Character character, Armor armor, boolean writableStackTrace) {
+        super(type, writableStackTrace, describe(character), armor);
     }
 
     public InvalidArmorException(ItemExceptionType type, Slot slot) {
-        super(String.format(type.getMessage(), slot));
+        super(type, STACK_TRACES, slot);
     }
 
 }
@@ -0,0 +1,182 @@
+package com.jorgsaa.item.catalog;
+
+import java.util.Arrays;
+
+/**
+ * Line formats understood by {@link CatalogImporter}. Both describe a row with the fields
+ * {@code kind, name, requiredLevel, slot, type, strength, dexterity, intelligence, damage, attackSpeed};
+ * armor leaves the weapon fields empty and weapons leave slot and attributes empty.
+ * <ul>
+ *     <li>{@link #CSV} takes the fields in that order, optionally double-quoted, and skips a header line
+ *     starting with {@code kind}.</li>
+ *     <li>{@link #JSON_LINES} takes one flat JSON object per line keyed by the field names.</li>
+ * </ul>
+ */
+public enum CatalogFormat {
+    CSV,
+    JSON_LINES;
+
+    static final String[] FIELDS = {
+            "kind", "name", "requiredLevel", "slot", "type",
+            "strength", "dexterity", "intelligence", "damage", "attackSpeed"
+    };
+
+    /**
+     * Splits the line into {@code fields}, returning {@code null} on success or the reason it is malformed.
+     */
+    String split(String line, String[] fields) {
+        Arrays.fill(fields, null);
+        return this == CSV ? splitCsv(line, fields) : splitJson(line, fields);
+    }
+
+    boolean isHeader(String line) {
+        return this == CSV && line.regionMatches(true, 0, FIELDS[0], 0, FIELDS[0].length());
+    }
+
+    private static String splitCsv(String line, String[] fields) {
+        final StringBuilder field = new StringBuilder();
+        int index = 0;
+        int i = 0;
+        while (true) {
+            field.setLength(0);
+            if (i < line.length() && line.charAt(i) == '"') {
+                // Quoted field, with "" as an escaped quote
+                i++;
+                while (true) {
+                    if (i >= line.length())
+                        return "Unterminated quoted field";
+                    final char c = line.charAt(i++);
+                    if (c == '"') {
+                        if (i < line.length() && line.charAt(i) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            break;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != ',')
+                    field.append(line.charAt(i++));
+            }
+
+            if (index == fields.length)
+                return "Too many fields";
+            fields[index++] = field.toString().trim();
+
+            if (i >= line.length())
+                return null;
+            if (line.charAt(i) != ',')
+                return "Unexpected character after quoted field";
+            i++;
+        }
+    }
+
+    private static String splitJson(String line, String[] fields) {
+        final JsonCursor cursor = new JsonCursor(line);
+        if (!cursor.consume('{'))
+            return "Expected '{'";
+        if (cursor.consume('}'))
+            return null;
+        do {
+            final String key = cursor.readString();
+            if (key == null)
+                return "Expected a quoted key";
+            if (!cursor.consume(':'))
+                return "Expected ':' after " + key;
+            final String value = cursor.readValue();
+            if (value == null)
+                return "Malformed value for " + key;
+            for (int i = 0; i < FIELDS.length; i++)
+                if (FIELDS[i].equals(key))
+                    fields[i] = value;
+        } while (cursor.consume(','));
+        if (!cursor.consume('}'))
+            return "Expected '}'";
+        return cursor.atEnd() ? null : "Unexpected content after object";
+    }
+
+    // Minimal reader for flat JSON objects with string, number, boolean or null values
+    private static class JsonCursor {
+
+        private final String text;
+        private int position;
+
+        JsonCursor(String text) {
+            this.text = text;
+        }
+
+        boolean consume(char expected) {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == expected) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean atEnd() {
+            skipWhitespace();
+            return position == text.length();
+        }
+
+        String readValue() {
+            skipWhitespace();
+            if (position < text.length() && text.charAt(position) == '"')
+                return readString();
+            final int start = position;
+            while (position < text.length() && ",}".indexOf(text.charAt(position)) < 0
+                    && !Character.isWhitespace(text.charAt(position)))
+                position++;
+            if (start == position)
+                return null;
+            final String literal = text.substring(start, position);
+            return literal.equals("null") ? "" : literal;
+        }
+
+        String readString() {
+            if (!consume('"'))
+                return null;
+            final StringBuilder builder = new StringBuilder();
+            while (position < text.length()) {
+                final char c = text.charAt(position++);
+                if (c == '"')
+                    return builder.toString();
+                if (c != '\\') {
+                    builder.append(c);
+                    continue;
+                }
+                if (position >= text.length())
+                    return null;
+                final char escaped = text.charAt(position++);
+                switch (escaped) {
+                    case 'b' -> builder.append('\b');
+                    case 'f' -> builder.append('\f');
+                    case 'n' -> builder.append('\n');
+                    case 'r' -> builder.append('\r');
+                    case 't' -> builder.append('\t');
+                    case 'u' -> {
+                        if (position + 4 > text.length())
+                            return null;
+                        try {
+                            builder.append((char) Integer.parseInt(text, position, position + 4, 16));
+                        } catch (NumberFormatException e) {
+                            return null;
+                        }
+                        position += 4;
+                    }
+                    default -> builder.append(escaped);
+                }
+            }
+            return null;
+        }
+
+        private void skipWhitespace() {
+            while (position < text.length() && Character.isWhitespace(text.charAt(position)))
+                position++;
+        }
+
+    }
+}
@@ -0,0 +1,221 @@
+package com.jorgsaa.item.catalog;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemExceptionType;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Streams item rows from a {@link CatalogFormat} source into a sink such as {@link ItemCatalog.Builder}.
+ * <p>
+ * The calling thread reads lines into chunks which are parsed on a worker pool. At most
+ * {@code parallelism * 2} chunks are in flight, bounding memory regardless of the source size, and parsed
+ * chunks are handed to the sinks on the calling thread in source order. If reading, parsing or a sink
+ * fails, the chunks still in flight are cancelled before the exception propagates. Rows breaking item
+ * rules, such as armor in {@link Slot#WEAPON}, are reported as {@link ImportError}s rather than thrown.
+ */
+public class CatalogImporter implements AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final Map<String, Slot> SLOTS = lookup(Slot.values());
+    private static final Map<String, ArmorType> ARMOR_TYPES = lookup(ArmorType.values());
+    private static final Map<String, WeaponType> WEAPON_TYPES = lookup(WeaponType.values());
+
+    private final CatalogFormat format;
+    private final int chunkSize;
+    private final int maxInFlight;
+    private final ExecutorService executor;
+
+    public CatalogImporter(CatalogFormat format) {
+        this(format, Runtime.getRuntime().availableProcessors(), DEFAULT_CHUNK_SIZE);
+    }
+
+    public CatalogImporter(CatalogFormat format, int parallelism, int chunkSize) {
+        if (parallelism < 1 || chunkSize < 1)
+            throw new IllegalArgumentException("Parallelism and chunk size must be positive");
+        this.format = format;
+        this.chunkSize = chunkSize;
+        this.maxInFlight = parallelism * 2;
+        this.executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "catalog-importer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ItemCatalog importCatalog(Path path, Consumer<ImportError> errors) throws IOException {
+        final ItemCatalog.Builder builder = ItemCatalog.builder();
+        importFrom(path, builder::add, errors);
+        return builder.build();
+    }
+
+    public ImportSummary importFrom(Path path, Consumer<? super Item> items, Consumer<ImportError> errors) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return importFrom(reader, items, errors);
+        }
+    }
+
+    public ImportSummary importFrom(Reader source, Consumer<? super Item> items, Consumer<ImportError> errors) throws IOException {
+        final BufferedReader reader = source instanceof BufferedReader buffered ? buffered : new BufferedReader(source);
+        final Deque<Future<ParsedChunk>> inFlight = new ArrayDeque<>();
+        final long[] totals = new long[2];
+
+        long lineNumber = 0;
+        try {
+            List<String> lines = new ArrayList<>(chunkSize);
+            long chunkStart = 1;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lines.isEmpty())
+                    chunkStart = lineNumber;
+                lines.add(line);
+                if (lines.size() == chunkSize) {
+                    submit(inFlight, lines, chunkStart, items, errors, totals);
+                    lines = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!lines.isEmpty())
+                submit(inFlight, lines, chunkStart, items, errors, totals);
+            while (!inFlight.isEmpty())
+                drain(inFlight.poll(), items, errors, totals);
+        } finally {
+            // Only left over when reading, parsing or a sink failed; the import is abandoned
+            for (Future<ParsedChunk> future : inFlight)
+                future.cancel(true);
+        }
+
+        return new ImportSummary(lineNumber, totals[0], totals[1]);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private void submit(Deque<Future<ParsedChunk>> inFlight, List<String> lines, long firstLine,
+                        Consumer<? super Item> items, Consumer<ImportError> errors, long[] totals) {
+        if (inFlight.size() == maxInFlight)
+            drain(inFlight.poll(), items, errors, totals);
+        inFlight.add(executor.submit(() -> parse(lines, firstLine)));
+    }
+
+    private static void drain(Future<ParsedChunk> future, Consumer<? super Item> items,
+                              Consumer<ImportError> errors, long[] totals) {
+        final ParsedChunk chunk;
+        try {
+            chunk = future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while importing catalog", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed to parse catalog chunk", e.getCause());
+        }
+        chunk.items.forEach(items);
+        chunk.errors.forEach(errors);
+        totals[0] += chunk.items.size();
+        totals[1] += chunk.errors.size();
+    }
+
+    private ParsedChunk parse(List<String> lines, long firstLine) {
+        final ParsedChunk chunk = new ParsedChunk(new ArrayList<>(lines.size()), new ArrayList<>());
+        final String[] fields = new String[CatalogFormat.FIELDS.length];
+        for (int i = 0; i < lines.size(); i++) {
+            final String line = lines.get(i);
+            final long lineNumber = firstLine + i;
+            if (line.isBlank() || (lineNumber == 1 && format.isHeader(line)))
+                continue;
+
+            final String malformed = format.split(line, fields);
+            if (malformed != null) {
+                chunk.errors.add(new ImportError(lineNumber, malformed, null));
+                continue;
+            }
+            parseItem(fields, lineNumber, chunk);
+        }
+        return chunk;
+    }
+
+    private static void parseItem(String[] fields, long line, ParsedChunk chunk) {
+        final String kind = field(fields, 0);
+        final String name = field(fields, 1);
+        if (name.isEmpty()) {
+            chunk.errors.add(new ImportError(line, "Missing name", null));
+            return;
+        }
+
+        try {
+            final int requiredLevel = Integer.parseInt(field(fields, 2));
+            if (kind.equalsIgnoreCase("armor")) {
+                final Slot slot = SLOTS.get(field(fields, 3).toUpperCase(Locale.ROOT));
+                final ArmorType type = ARMOR_TYPES.get(field(fields, 4).toUpperCase(Locale.ROOT));
+                if (slot == null || type == null) {
+                    chunk.errors.add(new ImportError(line, "Unknown armor slot or type", null));
+                } else if (slot == Slot.WEAPON) {
+                    final ItemExceptionType rule = ItemExceptionType.SLOT_INCOMPATIBLE;
+                    chunk.errors.add(new ImportError(line, String.format(rule.getMessage(), slot), rule));
+                } else {
+                    chunk.items.add(new Armor(name, requiredLevel, slot, type, PrimaryAttribute.of(
+                            parseIntOrZero(field(fields, 5)),
+                            parseIntOrZero(field(fields, 6)),
+                            parseIntOrZero(field(fields, 7))
+                    )));
+                }
+            } else if (kind.equalsIgnoreCase("weapon")) {
+                final WeaponType type = WEAPON_TYPES.get(field(fields, 4).toUpperCase(Locale.ROOT));
+                if (type == null)
+                    chunk.errors.add(new ImportError(line, "Unknown weapon type", null));
+                else
+                    chunk.items.add(new Weapon(name, requiredLevel, type,
+                            Double.parseDouble(field(fields, 8)), Double.parseDouble(field(fields, 9))));
+            } else {
+                chunk.errors.add(new ImportError(line, "Unknown item kind: " + kind, null));
+            }
+        } catch (NumberFormatException e) {
+            chunk.errors.add(new ImportError(line, "Malformed number: " + e.getMessage(), null));
+        }
+    }
+
+    private static String field(String[] fields, int index) {
+        return fields[index] == null ? "" : fields[index];
+    }
+
+    private static int parseIntOrZero(String value) {
+        return value.isEmpty() ? 0 : Integer.parseInt(value);
+    }
+
+    private static <E extends Enum<E>> Map<String, E> lookup(E[] values) {
+        final Map<String, E> map = new HashMap<>();
+        for (E value : values)
+            map.put(value.name(), value);
+        return map;
+    }
+
+    private record ParsedChunk(List<Item> items, List<ImportError> errors) {
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.jorgsaa.item.catalog;
+
+import com.jorgsaa.item.ItemExceptionType;
+
+/**
+ * A catalog row that was rejected during import.
+ *
+ * @param line   1-based line number in the source
+ * @param reason human readable description of the problem
+ * @param type   the item rule the row violated, or {@code null} if the row was malformed
+ */
+public record ImportError(long line, String reason, ItemExceptionType type) {
+}
@@ -0,0 +1,4 @@
+package com.jorgsaa.item.catalog;
+
+public record ImportSummary(long lines, long items, long rejected) {
+}
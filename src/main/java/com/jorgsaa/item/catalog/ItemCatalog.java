@@ -0,0 +1,265 @@
+package com.jorgsaa.item.catalog;
+
+import com.jorgsaa.attribute.AttributeType;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable item index for equippability and ranking queries.
+ * <p>
+ * Items are bucketed by {@link Slot} and {@link ArmorType} or {@link WeaponType}, each bucket sorted by
+ * required level. "Equippable by class X at level L in slot S" binary searches the few buckets the class
+ * may use and returns their prefixes, so the cost is proportional to the result. Armor is additionally
+ * sorted per slot and {@link AttributeType}, and weapons by DPS, for range and top-N queries.
+ */
+public class ItemCatalog implements Iterable<Item> {
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final AttributeType[] ATTRIBUTE_TYPES = AttributeType.values();
+
+    private final List<Item> items;
+    private final LevelBucket[][] armorBuckets;
+    private final LevelBucket[] weaponBuckets;
+    private final RankedList[][] armorByAttribute;
+    private final RankedList weaponsByDPS;
+
+    private ItemCatalog(List<Item> items) {
+        this.items = Collections.unmodifiableList(items);
+
+        final List<List<Item>> armor = new ArrayList<>();
+        final List<List<List<Item>>> armorByType = new ArrayList<>();
+        final List<List<Item>> weaponsByType = new ArrayList<>();
+        for (Slot ignored : SLOTS) {
+            armor.add(new ArrayList<>());
+            final List<List<Item>> types = new ArrayList<>();
+            for (ArmorType ignoredType : ArmorType.values())
+                types.add(new ArrayList<>());
+            armorByType.add(types);
+        }
+        for (WeaponType ignored : WeaponType.values())
+            weaponsByType.add(new ArrayList<>());
+        final List<Item> weapons = new ArrayList<>();
+
+        for (Item item : items) {
+            if (item instanceof Armor piece) {
+                armor.get(item.getSlot().ordinal()).add(item);
+                armorByType.get(item.getSlot().ordinal()).get(piece.getType().ordinal()).add(item);
+            } else if (item instanceof Weapon weapon) {
+                weapons.add(item);
+                weaponsByType.get(weapon.getType().ordinal()).add(item);
+            }
+        }
+
+        armorBuckets = new LevelBucket[SLOTS.length][];
+        armorByAttribute = new RankedList[SLOTS.length][];
+        for (Slot slot : SLOTS) {
+            final List<List<Item>> types = armorByType.get(slot.ordinal());
+            armorBuckets[slot.ordinal()] = new LevelBucket[types.size()];
+            for (int i = 0; i < types.size(); i++)
+                armorBuckets[slot.ordinal()][i] = new LevelBucket(types.get(i));
+
+            armorByAttribute[slot.ordinal()] = new RankedList[ATTRIBUTE_TYPES.length];
+            for (AttributeType attributeType : ATTRIBUTE_TYPES)
+                armorByAttribute[slot.ordinal()][attributeType.ordinal()] = new RankedList(
+                        armor.get(slot.ordinal()), item -> attributeType.of(((Armor) item).getAttributes()));
+        }
+
+        weaponBuckets = new LevelBucket[weaponsByType.size()];
+        for (int i = 0; i < weaponsByType.size(); i++)
+            weaponBuckets[i] = new LevelBucket(weaponsByType.get(i));
+        weaponsByDPS = new RankedList(weapons, item -> ((Weapon) item).dpsAsDouble());
+    }
+
+    public static ItemCatalog of(Iterable<? extends Item> items) {
+        return builder().addAll(items).build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return items.iterator();
+    }
+
+    /**
+     * Visits every item in the slot that the class can equip at the given level.
+     */
+    public void forEachEquippable(CharacterClass characterClass, int level, Slot slot, Consumer<? super Item> action) {
+        if (slot == Slot.WEAPON) {
+            for (WeaponType type : characterClass.getValidWeaponTypes())
+                weaponBuckets[type.ordinal()].forEachUpTo(level, action);
+        } else {
+            for (ArmorType type : characterClass.getValidArmorTypes())
+                armorBuckets[slot.ordinal()][type.ordinal()].forEachUpTo(level, action);
+        }
+    }
+
+    public List<Item> equippable(CharacterClass characterClass, int level, Slot slot) {
+        final List<Item> result = new ArrayList<>();
+        forEachEquippable(characterClass, level, slot, result::add);
+        return result;
+    }
+
+    /**
+     * Armor in the slot whose bonus to the attribute lies within [min, max], strongest first.
+     */
+    public List<Item> armorByAttribute(Slot slot, AttributeType attributeType, int min, int max) {
+        return armorRanking(slot, attributeType).range(min, max);
+    }
+
+    public List<Item> topArmorByAttribute(Slot slot, AttributeType attributeType, int n) {
+        return armorRanking(slot, attributeType).top(n);
+    }
+
+    /**
+     * Weapons whose DPS lies within [min, max], strongest first.
+     */
+    public List<Item> weaponsByDPS(double min, double max) {
+        return weaponsByDPS.range(min, max);
+    }
+
+    public List<Item> topWeaponsByDPS(int n) {
+        return weaponsByDPS.top(n);
+    }
+
+    private RankedList armorRanking(Slot slot, AttributeType attributeType) {
+        if (slot == Slot.WEAPON)
+            throw new IllegalArgumentException("Armor cannot be worn in slot " + slot);
+        return armorByAttribute[slot.ordinal()][attributeType.ordinal()];
+    }
+
+    public static class Builder {
+
+        private final List<Item> items = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        public Builder add(Item item) {
+            items.add(item);
+            return this;
+        }
+
+        public Builder addAll(Iterable<? extends Item> items) {
+            items.forEach(this::add);
+            return this;
+        }
+
+        public ItemCatalog build() {
+            return new ItemCatalog(new ArrayList<>(items));
+        }
+
+    }
+
+    // Items of one slot and type, sorted by required level
+    private static class LevelBucket {
+
+        private final Item[] items;
+        private final int[] levels;
+
+        LevelBucket(List<Item> items) {
+            this.items = items.toArray(Item[]::new);
+            Arrays.sort(this.items, Comparator.comparingInt(Item::getRequiredLevel));
+            this.levels = new int[this.items.length];
+            for (int i = 0; i < this.items.length; i++)
+                levels[i] = this.items[i].getRequiredLevel();
+        }
+
+        void forEachUpTo(int level, Consumer<? super Item> action) {
+            final int end = upperBound(level);
+            for (int i = 0; i < end; i++)
+                action.accept(items[i]);
+        }
+
+        // Index of the first item requiring more than the level
+        private int upperBound(int level) {
+            int low = 0;
+            int high = levels.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (levels[middle] <= level)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+    }
+
+    // Items sorted by a score, highest first
+    private static class RankedList {
+
+        private final List<Item> items;
+        private final double[] scores;
+
+        RankedList(List<Item> items, ToDoubleFunction<Item> score) {
+            final Item[] sorted = items.toArray(Item[]::new);
+            Arrays.sort(sorted, Comparator.comparingDouble(score).reversed());
+            this.items = Collections.unmodifiableList(Arrays.asList(sorted));
+            this.scores = new double[sorted.length];
+            for (int i = 0; i < sorted.length; i++)
+                scores[i] = score.applyAsDouble(sorted[i]);
+        }
+
+        List<Item> top(int n) {
+            return items.subList(0, Math.min(Math.max(n, 0), items.size()));
+        }
+
+        List<Item> range(double min, double max) {
+            if (min > max)
+                return List.of();
+            return items.subList(firstAtMost(max), firstBelow(min));
+        }
+
+        // Index of the first item scoring at most the value
+        private int firstAtMost(double value) {
+            int low = 0;
+            int high = scores.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (scores[middle] > value)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+        // Index of the first item scoring below the value
+        private int firstBelow(double value) {
+            int low = 0;
+            int high = scores.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (scores[middle] >= value)
+                    low = middle + 1;
+                else
+                    high = middle;
+            }
+            return low;
+        }
+
+    }
+
+}
@@ -1,12 +1,17 @@
 package com.jorgsaa.item.weapon;
 
 import com.jorgsaa.character.Character;
+import com.jorgsaa.item.InvalidItemException;
 import com.jorgsaa.item.ItemExceptionType;
 
-public class InvalidWeaponException extends RuntimeException {
+public class InvalidWeaponException extends InvalidItemException {
 
     public InvalidWeaponException(ItemExceptionType type, Character character, Weapon weapon) {
-        super(String.format(type.getMessage(), character, weapon));
+        this(type, character, weapon, STACK_TRACES);
+    }
+
+    public InvalidWeaponException(ItemExceptionType type, Character character, Weapon weapon, boolean writableStackTrace) {
+        super(type, writableStackTrace, describe(character), weapon);
     }
 
 }
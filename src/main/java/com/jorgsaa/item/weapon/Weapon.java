@@ -3,13 +3,15 @@ package com.jorgsaa.item.weapon;
 import com.jorgsaa.item.Item;
 import com.jorgsaa.item.Slot;
 
+import java.util.Locale;
+
 public class Weapon extends Item {
 
     private final WeaponType type;
-    private final Double damage;
-    private final Double attackSpeed;
+    private final double damage;
+    private final double attackSpeed;
 
-    public Weapon(String name, Integer requiredLevel, WeaponType type, Double damage, Double attackSpeed) {
+    public Weapon(String name, Integer requiredLevel, WeaponType type, double damage, double attackSpeed) {
         super(name, requiredLevel, Slot.WEAPON);
         this.type = type;
         this.damage = damage;
@@ -17,16 +19,44 @@ public class Weapon extends Item {
     }
 
     public Double getDPS() {
+        return dpsAsDouble();
+    }
+
+    public double dpsAsDouble() {
         return attackSpeed * damage;
     }
 
+    public double getDamage() {
+        return damage;
+    }
+
+    public double getAttackSpeed() {
+        return attackSpeed;
+    }
+
     public WeaponType getType() {
         return type;
     }
 
     @Override
     public String toString() {
-        return String.format("%s (Level %d) [ Damage: %3f Attack Speed: %3f ]", getName(), getRequiredLevel(), damage, attackSpeed);
+        return String.format(Locale.ROOT, "%s (Level %d) [ Damage: %3f Attack Speed: %3f ]", getName(), getRequiredLevel(), damage, attackSpeed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!super.equals(o)) return false;
+        Weapon weapon = (Weapon) o;
+        return type == weapon.type
+                && Double.compare(damage, weapon.damage) == 0
+                && Double.compare(attackSpeed, weapon.attackSpeed) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 31 * super.hashCode() + (type != null ? type.hashCode() : 0);
+        result = 31 * result + Double.hashCode(damage);
+        return 31 * result + Double.hashCode(attackSpeed);
     }
 
 }
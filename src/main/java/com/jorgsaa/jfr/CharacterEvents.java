@@ -0,0 +1,40 @@
+package com.jorgsaa.jfr;
+
+import jdk.jfr.Recording;
+
+import java.time.Duration;
+
+/**
+ * Names of the JDK Flight Recorder events emitted by {@link com.jorgsaa.character.Character}.
+ * <p>
+ * Equip and level change events are recorded at any duration without stack traces. Recomputation
+ * events default to a 10 us threshold with stack traces. A {@code .jfc} settings file can override these
+ * per event name, for example {@code <event name="com.jorgsaa.Recompute"><setting name="threshold">1 ms</setting></event>}.
+ * The same can be done programmatically with {@link #enable}.
+ * <p>
+ * Events are created on every operation. While no recording has them enabled, {@code shouldCommit()} is
+ * false and the JIT removes the unused event objects.
+ */
+public final class CharacterEvents {
+
+    public static final String EQUIP = "com.jorgsaa.Equip";
+    public static final String LEVEL_CHANGE = "com.jorgsaa.LevelChange";
+    public static final String RECOMPUTE = "com.jorgsaa.Recompute";
+
+    private CharacterEvents() {
+    }
+
+    /**
+     * Enables all character events on the recording.
+     *
+     * @param mutationThreshold   minimum duration of recorded equip and level change events
+     * @param recomputeThreshold  minimum duration of recorded recomputation events
+     * @param stackTraces         whether events carry the stack trace of the calling thread
+     */
+    public static void enable(Recording recording, Duration mutationThreshold, Duration recomputeThreshold, boolean stackTraces) {
+        recording.enable(EQUIP).withThreshold(mutationThreshold).with("stackTrace", String.valueOf(stackTraces));
+        recording.enable(LEVEL_CHANGE).withThreshold(mutationThreshold).with("stackTrace", String.valueOf(stackTraces));
+        recording.enable(RECOMPUTE).withThreshold(recomputeThreshold).with("stackTrace", String.valueOf(stackTraces));
+    }
+
+}
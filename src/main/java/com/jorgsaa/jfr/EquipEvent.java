@@ -0,0 +1,45 @@
+package com.jorgsaa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(CharacterEvents.EQUIP)
+@Label("Equip")
+@Description("A character equipped, or failed to equip, an item")
+@Category({"Character", "Mutation"})
+@Threshold("0 ns")
+@StackTrace(false)
+public final class EquipEvent extends Event {
+
+    @Label("Character")
+    private String character;
+
+    @Label("Class")
+    private String characterClass;
+
+    @Label("Item")
+    private String item;
+
+    @Label("Slot")
+    private String slot;
+
+    @Label("Result")
+    private String result;
+
+    public void commit(String character, String characterClass, String item, String slot, String result) {
+        if (!shouldCommit())
+            return;
+        this.character = character;
+        this.characterClass = characterClass;
+        this.item = item;
+        this.slot = slot;
+        this.result = result;
+        commit();
+    }
+
+}
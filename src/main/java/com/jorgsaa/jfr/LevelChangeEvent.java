@@ -0,0 +1,41 @@
+package com.jorgsaa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(CharacterEvents.LEVEL_CHANGE)
+@Label("Level Change")
+@Description("A character's level changed through levelUp or setLevel; restoring saved state is not recorded")
+@Category({"Character", "Mutation"})
+@Threshold("0 ns")
+@StackTrace(false)
+public final class LevelChangeEvent extends Event {
+
+    @Label("Character")
+    private String character;
+
+    @Label("Class")
+    private String characterClass;
+
+    @Label("Previous Level")
+    private int previousLevel;
+
+    @Label("Level")
+    private int level;
+
+    public void commit(String character, String characterClass, int previousLevel, int level) {
+        if (!shouldCommit())
+            return;
+        this.character = character;
+        this.characterClass = characterClass;
+        this.previousLevel = previousLevel;
+        this.level = level;
+        commit();
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.jorgsaa.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+@Name(CharacterEvents.RECOMPUTE)
+@Label("Stat Recomputation")
+@Description("A cached character stat was stale and had to be recomputed")
+@Category({"Character", "Stats"})
+@Threshold("10 us")
+@StackTrace(true)
+public final class RecomputeEvent extends Event {
+
+    public static final String TOTAL_PRIMARY_ATTRIBUTES = "totalPrimaryAttributes";
+    public static final String DPS = "dps";
+
+    @Label("Character")
+    private String character;
+
+    @Label("Class")
+    private String characterClass;
+
+    @Label("Stat")
+    private String stat;
+
+    public void commit(String character, String characterClass, String stat) {
+        if (!shouldCommit())
+            return;
+        this.character = character;
+        this.characterClass = characterClass;
+        this.stat = stat;
+        commit();
+    }
+
+}
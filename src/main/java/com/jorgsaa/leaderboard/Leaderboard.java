@@ -0,0 +1,152 @@
+package com.jorgsaa.leaderboard;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.CharacterListener;
+import com.jorgsaa.item.Item;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DPS leaderboard, global and per class, kept up to date by listening to the characters it ranks.
+ * <p>
+ * Rankings are stored in persistent order-statistic trees, so an update costs O(log n) instead of a
+ * re-sort. Writers are serialized and publish a new immutable set of trees. Readers never lock, and a
+ * single query always sees one consistent version. Rank and top-k queries run in O(log n), with top-k
+ * adding O(k) to walk the result.
+ * <p>
+ * Ranks are zero-based, with rank 0 held by the highest DPS. Characters with equal DPS are ordered by
+ * when they were added.
+ */
+public class Leaderboard implements CharacterListener {
+
+    private static final CharacterClass[] CLASSES = CharacterClass.values();
+
+    private final Map<Character, LeaderboardEntry> entries = new ConcurrentHashMap<>();
+    private volatile Rankings rankings = new Rankings(null, new RankTree[CLASSES.length]);
+    private long sequence;
+
+    /**
+     * Ranks the character and starts following its changes. Adding a character twice has no effect.
+     */
+    public synchronized void add(Character character) {
+        if (entries.containsKey(character))
+            return;
+        final LeaderboardEntry entry = new LeaderboardEntry(character, character.getCharacterClass(), character.dpsAsDouble(), sequence++);
+        entries.put(character, entry);
+        rankings = rankings.insert(entry);
+        character.addListener(this);
+    }
+
+    public synchronized void remove(Character character) {
+        final LeaderboardEntry entry = entries.remove(character);
+        if (entry == null)
+            return;
+        character.removeListener(this);
+        rankings = rankings.remove(entry);
+    }
+
+    @Override
+    public void equipped(Character character, Item previous, Item item) {
+        update(character);
+    }
+
+    @Override
+    public void levelChanged(Character character, int previousLevel, int level) {
+        update(character);
+    }
+
+    /**
+     * Re-ranks the character from its current DPS. Called automatically by the character's listeners.
+     */
+    public synchronized void update(Character character) {
+        final LeaderboardEntry previous = entries.get(character);
+        if (previous == null)
+            return;
+        final double dps = character.dpsAsDouble();
+        if (Double.compare(dps, previous.dps()) == 0)
+            return;
+        final LeaderboardEntry entry = new LeaderboardEntry(character, previous.characterClass(), dps, previous.sequence());
+        entries.put(character, entry);
+        rankings = rankings.remove(previous).insert(entry);
+    }
+
+    public int size() {
+        return RankTree.size(rankings.global);
+    }
+
+    public int size(CharacterClass characterClass) {
+        return RankTree.size(rankings.byClass[characterClass.ordinal()]);
+    }
+
+    public List<LeaderboardEntry> top(int count) {
+        return RankTree.top(rankings.global, count);
+    }
+
+    public List<LeaderboardEntry> top(CharacterClass characterClass, int count) {
+        return RankTree.top(rankings.byClass[characterClass.ordinal()], count);
+    }
+
+    /**
+     * @return the entry at the zero-based rank, or {@code null} if there are fewer characters
+     */
+    public LeaderboardEntry get(int rank) {
+        return RankTree.get(rankings.global, rank);
+    }
+
+    public LeaderboardEntry get(CharacterClass characterClass, int rank) {
+        return RankTree.get(rankings.byClass[characterClass.ordinal()], rank);
+    }
+
+    /**
+     * @return the zero-based global rank of the character, or -1 if it is not on the leaderboard
+     */
+    public int rankOf(Character character) {
+        return rankOf(character, false);
+    }
+
+    /**
+     * @return the zero-based rank of the character among its own class, or -1 if it is not on the
+     * leaderboard
+     */
+    public int classRankOf(Character character) {
+        return rankOf(character, true);
+    }
+
+    private int rankOf(Character character, boolean withinClass) {
+        // Entries are replaced before the trees that hold them are published. An entry missing from the
+        // trees just read belongs to a write in progress, so read again until it lands.
+        while (true) {
+            final Rankings current = rankings;
+            final LeaderboardEntry entry = entries.get(character);
+            if (entry == null)
+                return -1;
+            final RankTree tree = withinClass ? current.byClass[entry.characterClass().ordinal()] : current.global;
+            final int rank = RankTree.rankOf(tree, entry);
+            if (rank >= 0)
+                return rank;
+            Thread.onSpinWait();
+        }
+    }
+
+    private record Rankings(RankTree global, RankTree[] byClass) {
+
+        Rankings insert(LeaderboardEntry entry) {
+            final RankTree[] classes = byClass.clone();
+            final int index = entry.characterClass().ordinal();
+            classes[index] = RankTree.insert(classes[index], entry);
+            return new Rankings(RankTree.insert(global, entry), classes);
+        }
+
+        Rankings remove(LeaderboardEntry entry) {
+            final RankTree[] classes = byClass.clone();
+            final int index = entry.characterClass().ordinal();
+            classes[index] = RankTree.remove(classes[index], entry);
+            return new Rankings(RankTree.remove(global, entry), classes);
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.jorgsaa.leaderboard;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+
+/**
+ * DPS of a character at the time it was last ranked. Ties on DPS are ordered by {@code sequence}, the
+ * order in which characters were added to the leaderboard.
+ */
+public record LeaderboardEntry(Character character, CharacterClass characterClass, double dps, long sequence)
+        implements Comparable<LeaderboardEntry> {
+
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        final int byDps = Double.compare(other.dps, dps);
+        return byDps != 0 ? byDps : Long.compare(sequence, other.sequence);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.jorgsaa.leaderboard;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Persistent treap of leaderboard entries augmented with subtree sizes. Updates copy the O(log n) nodes
+ * on the search path and leave the previous tree untouched, so readers can keep using any root they
+ * have seen. An empty tree is {@code null}.
+ */
+final class RankTree {
+
+    private final LeaderboardEntry entry;
+    private final long priority;
+    private final RankTree left;
+    private final RankTree right;
+    private final int size;
+
+    private RankTree(LeaderboardEntry entry, long priority, RankTree left, RankTree right) {
+        this.entry = entry;
+        this.priority = priority;
+        this.left = left;
+        this.right = right;
+        this.size = 1 + size(left) + size(right);
+    }
+
+    static int size(RankTree tree) {
+        return tree == null ? 0 : tree.size;
+    }
+
+    static RankTree insert(RankTree tree, LeaderboardEntry entry) {
+        return insert(tree, entry, priorityOf(entry));
+    }
+
+    private static RankTree insert(RankTree tree, LeaderboardEntry entry, long priority) {
+        if (tree == null)
+            return new RankTree(entry, priority, null, null);
+        if (priority > tree.priority) {
+            final RankTree[] parts = split(tree, entry);
+            return new RankTree(entry, priority, parts[0], parts[1]);
+        }
+        if (entry.compareTo(tree.entry) < 0)
+            return new RankTree(tree.entry, tree.priority, insert(tree.left, entry, priority), tree.right);
+        return new RankTree(tree.entry, tree.priority, tree.left, insert(tree.right, entry, priority));
+    }
+
+    static RankTree remove(RankTree tree, LeaderboardEntry entry) {
+        if (tree == null)
+            return null;
+        final int comparison = entry.compareTo(tree.entry);
+        if (comparison == 0)
+            return merge(tree.left, tree.right);
+        if (comparison < 0)
+            return new RankTree(tree.entry, tree.priority, remove(tree.left, entry), tree.right);
+        return new RankTree(tree.entry, tree.priority, tree.left, remove(tree.right, entry));
+    }
+
+    /**
+     * @return the zero-based position of the entry, or -1 if it is not in the tree
+     */
+    static int rankOf(RankTree tree, LeaderboardEntry entry) {
+        int before = 0;
+        while (tree != null) {
+            final int comparison = entry.compareTo(tree.entry);
+            if (comparison == 0)
+                return before + size(tree.left);
+            if (comparison < 0) {
+                tree = tree.left;
+            } else {
+                before += size(tree.left) + 1;
+                tree = tree.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the entry at the zero-based position, or {@code null} if the tree is smaller
+     */
+    static LeaderboardEntry get(RankTree tree, int rank) {
+        while (tree != null) {
+            final int leftSize = size(tree.left);
+            if (rank == leftSize)
+                return tree.entry;
+            if (rank < leftSize) {
+                tree = tree.left;
+            } else {
+                rank -= leftSize + 1;
+                tree = tree.right;
+            }
+        }
+        return null;
+    }
+
+    static List<LeaderboardEntry> top(RankTree tree, int count) {
+        final List<LeaderboardEntry> out = new ArrayList<>(Math.min(count, size(tree)));
+        final ArrayList<RankTree> path = new ArrayList<>();
+        while ((tree != null || !path.isEmpty()) && out.size() < count) {
+            while (tree != null) {
+                path.add(tree);
+                tree = tree.left;
+            }
+            tree = path.remove(path.size() - 1);
+            out.add(tree.entry);
+            tree = tree.right;
+        }
+        return out;
+    }
+
+    private static RankTree[] split(RankTree tree, LeaderboardEntry entry) {
+        if (tree == null)
+            return new RankTree[2];
+        if (entry.compareTo(tree.entry) <= 0) {
+            final RankTree[] parts = split(tree.left, entry);
+            parts[1] = new RankTree(tree.entry, tree.priority, parts[1], tree.right);
+            return parts;
+        }
+        final RankTree[] parts = split(tree.right, entry);
+        parts[0] = new RankTree(tree.entry, tree.priority, tree.left, parts[0]);
+        return parts;
+    }
+
+    private static RankTree merge(RankTree left, RankTree right) {
+        if (left == null)
+            return right;
+        if (right == null)
+            return left;
+        if (left.priority > right.priority)
+            return new RankTree(left.entry, left.priority, left.left, merge(left.right, right));
+        return new RankTree(right.entry, right.priority, merge(left, right.left), right.right);
+    }
+
+    private static long priorityOf(LeaderboardEntry entry) {
+        long z = entry.sequence() * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.jorgsaa.metrics;
+
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Slot;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Process-wide counters for character operations, recorded by {@link com.jorgsaa.character.Character}.
+ * <p>
+ * Counters are striped {@link LongAdder}s, so threads updating different characters do not contend.
+ * While disabled every hook costs one volatile read and a branch. Enable at startup with the system
+ * property {@code com.jorgsaa.metrics.enabled=true}, or at runtime with {@link #setEnabled(boolean)}.
+ * <p>
+ * DPS lookups served from the cache are only counted. Recomputations are also timed, in a histogram
+ * with power-of-two nanosecond buckets.
+ */
+public final class CharacterMetrics {
+
+    static final Slot[] SLOTS = Slot.values();
+    static final EquipResult[] RESULTS = EquipResult.values();
+    static final int LATENCY_BUCKETS = Long.SIZE;
+
+    private static volatile boolean enabled = Boolean.getBoolean("com.jorgsaa.metrics.enabled");
+
+    private static final LongAdder[] equips = adders(SLOTS.length * RESULTS.length);
+    private static final LongAdder levelUps = new LongAdder();
+    private static final LongAdder levelChanges = new LongAdder();
+    private static final LongAdder dpsCacheHits = new LongAdder();
+    private static final LongAdder[] dpsLatency = adders(LATENCY_BUCKETS);
+
+    private CharacterMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        CharacterMetrics.enabled = enabled;
+    }
+
+    public static void equip(Slot slot, EquipResult result) {
+        equips[slot.ordinal() * RESULTS.length + result.ordinal()].increment();
+    }
+
+    public static void levelUp() {
+        levelUps.increment();
+    }
+
+    public static void levelChanged() {
+        levelChanges.increment();
+    }
+
+    public static void dpsCacheHit() {
+        dpsCacheHits.increment();
+    }
+
+    public static void dpsComputed(long nanos) {
+        dpsLatency[bucketOf(nanos)].increment();
+    }
+
+    /**
+     * Copies the current counter values. Counters keep moving while they are copied, so the snapshot is
+     * not an atomic view across counters.
+     */
+    public static MetricsSnapshot snapshot() {
+        return new MetricsSnapshot(sums(equips), levelUps.sum(), levelChanges.sum(), dpsCacheHits.sum(), sums(dpsLatency));
+    }
+
+    public static void reset() {
+        for (LongAdder adder : equips)
+            adder.reset();
+        levelUps.reset();
+        levelChanges.reset();
+        dpsCacheHits.reset();
+        for (LongAdder adder : dpsLatency)
+            adder.reset();
+    }
+
+    // Bucket b counts durations in [2^(b-1), 2^b) nanoseconds, and bucket 0 counts zero
+    static int bucketOf(long nanos) {
+        return nanos <= 0 ? 0 : Long.SIZE - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static LongAdder[] adders(int count) {
+        final LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++)
+            adders[i] = new LongAdder();
+        return adders;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        final long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++)
+            sums[i] = adders[i].sum();
+        return sums;
+    }
+
+}
@@ -0,0 +1,121 @@
+package com.jorgsaa.metrics;
+
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.ItemExceptionType;
+import com.jorgsaa.item.Slot;
+
+/**
+ * Point-in-time copy of {@link CharacterMetrics}.
+ */
+public final class MetricsSnapshot {
+
+    private final long[] equips;
+    private final long levelUps;
+    private final long levelChanges;
+    private final long dpsCacheHits;
+    private final long[] dpsLatency;
+
+    MetricsSnapshot(long[] equips, long levelUps, long levelChanges, long dpsCacheHits, long[] dpsLatency) {
+        this.equips = equips;
+        this.levelUps = levelUps;
+        this.levelChanges = levelChanges;
+        this.dpsCacheHits = dpsCacheHits;
+        this.dpsLatency = dpsLatency;
+    }
+
+    public long equips(Slot slot, EquipResult result) {
+        return equips[slot.ordinal() * CharacterMetrics.RESULTS.length + result.ordinal()];
+    }
+
+    /**
+     * @return equip attempts on the slot, successful or not
+     */
+    public long equips(Slot slot) {
+        long total = 0;
+        for (EquipResult result : CharacterMetrics.RESULTS)
+            total += equips(slot, result);
+        return total;
+    }
+
+    public long equips(EquipResult result) {
+        long total = 0;
+        for (Slot slot : CharacterMetrics.SLOTS)
+            total += equips(slot, result);
+        return total;
+    }
+
+    /**
+     * @return equip attempts rejected for the reason, over all slots
+     */
+    public long rejections(ItemExceptionType type) {
+        long total = 0;
+        for (EquipResult result : CharacterMetrics.RESULTS) {
+            if (result.getExceptionType() == type)
+                total += equips(result);
+        }
+        return total;
+    }
+
+    public long levelUps() {
+        return levelUps;
+    }
+
+    /**
+     * @return level changes from both {@code levelUp} and {@code setLevel}
+     */
+    public long levelChanges() {
+        return levelChanges;
+    }
+
+    public long dpsCacheHits() {
+        return dpsCacheHits;
+    }
+
+    public long dpsComputations() {
+        long total = 0;
+        for (long count : dpsLatency)
+            total += count;
+        return total;
+    }
+
+    public double dpsCacheHitRatio() {
+        final long lookups = dpsCacheHits + dpsComputations();
+        return lookups == 0 ? 0 : (double) dpsCacheHits / lookups;
+    }
+
+    /**
+     * @return the number of DPS computations in each power-of-two latency bucket, see
+     * {@link #dpsLatencyUpperBound(int)}
+     */
+    public long[] dpsLatencyHistogram() {
+        return dpsLatency.clone();
+    }
+
+    /**
+     * @return the exclusive upper bound in nanoseconds of a latency bucket
+     */
+    public static long dpsLatencyUpperBound(int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * @return the upper bound of the bucket holding the given quantile of DPS computations, or 0 if none
+     * were recorded
+     */
+    public long dpsLatencyQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1))
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        final long total = dpsComputations();
+        if (total == 0)
+            return 0;
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int bucket = 0; bucket < dpsLatency.length; bucket++) {
+            seen += dpsLatency[bucket];
+            if (seen >= rank)
+                return dpsLatencyUpperBound(bucket);
+        }
+        return Long.MAX_VALUE;
+    }
+
+}
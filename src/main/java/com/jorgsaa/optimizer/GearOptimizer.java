@@ -0,0 +1,151 @@
+package com.jorgsaa.optimizer;
+
+import com.jorgsaa.attribute.AttributeType;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.catalog.ItemCatalog;
+import com.jorgsaa.item.weapon.Weapon;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds the equipment set that maximizes {@link Character#getDPS()} for a character.
+ * <p>
+ * DPS is {@code weaponDPS * (1 + 0.01 * mainAttribute)}, where the main attribute is the character's own
+ * value plus the armor in every slot. An armor piece therefore only matters through its main attribute
+ * bonus and a weapon only through its DPS, so within a slot any legal item scoring no higher than
+ * another is dominated and dropped while the catalog is scanned. The surviving candidates, together
+ * with the item already worn (or an empty slot), are searched branch-and-bound: a partial set is
+ * abandoned when even the best remaining weapon and armor cannot beat the best complete set found.
+ */
+public class GearOptimizer {
+
+    private static final Slot[] SLOTS = Slot.values();
+
+    /**
+     * Restricts the search to items the catalog index reports as equippable, instead of scanning it all.
+     */
+    public Loadout optimize(Character character, ItemCatalog catalog) {
+        final List<Item> equippable = new ArrayList<>();
+        for (Slot slot : SLOTS)
+            catalog.forEachEquippable(character.getCharacterClass(), character.getLevel(), slot, equippable::add);
+        return optimize(character, equippable);
+    }
+
+    public Loadout optimize(Character character, Iterable<? extends Item> catalog) {
+        final CharacterClass characterClass = character.getCharacterClass();
+        final AttributeType mainAttribute = characterClass.getMainAttribute();
+        final int level = character.getLevel();
+
+        // Scan the catalog once, keeping the best legal candidate per slot
+        final Candidate[] best = new Candidate[SLOTS.length];
+        for (Item item : catalog) {
+            if ((item instanceof Armor || item instanceof Weapon) && characterClass.check(item, level).isSuccess())
+                best[item.getSlot().ordinal()] = dominant(best[item.getSlot().ordinal()], new Candidate(item, score(item, mainAttribute)));
+        }
+
+        final List<List<Candidate>> options = new ArrayList<>();
+        for (Slot slot : SLOTS) {
+            final List<Candidate> slotOptions = new ArrayList<>(2);
+            final Item current = character.getEquipment(slot);
+            slotOptions.add(new Candidate(current, score(current, mainAttribute)));
+            if (best[slot.ordinal()] != null && best[slot.ordinal()].score > slotOptions.get(0).score)
+                slotOptions.add(best[slot.ordinal()]);
+            slotOptions.sort(Comparator.comparingDouble(Candidate::score).reversed());
+            options.add(slotOptions);
+        }
+
+        final int ownMainAttribute = mainAttribute.of(character.getBasePrimaryAttributes())
+                + mainAttribute.of(character.getGainedPrimaryAttributes());
+        final Search search = new Search(ownMainAttribute, options);
+        search.branch(0, 0, 1);
+        return search.toLoadout();
+    }
+
+    private static Candidate dominant(Candidate existing, Candidate candidate) {
+        return existing == null || candidate.score > existing.score ? candidate : existing;
+    }
+
+    private static double score(Item item, AttributeType mainAttribute) {
+        if (item instanceof Armor armor)
+            return mainAttribute.of(armor.getAttributes());
+        if (item instanceof Weapon weapon)
+            return weapon.dpsAsDouble() != 0 ? weapon.dpsAsDouble() : 1;
+        // An empty weapon slot counts as 1 DPS, an empty armor slot adds nothing
+        return 0;
+    }
+
+    private record Candidate(Item item, double score) {
+    }
+
+    private static class Search {
+
+        private final int ownMainAttribute;
+        private final List<List<Candidate>> options;
+        private final double[] armorBound;
+        private final Item[] chosen = new Item[SLOTS.length];
+
+        private Item[] bestItems;
+        private double bestDPS = Double.NEGATIVE_INFINITY;
+
+        Search(int ownMainAttribute, List<List<Candidate>> options) {
+            this.ownMainAttribute = ownMainAttribute;
+            this.options = options;
+
+            // Highest armor bonus still obtainable from each slot onwards
+            armorBound = new double[SLOTS.length + 1];
+            for (int i = SLOTS.length - 1; i >= 0; i--)
+                armorBound[i] = armorBound[i + 1] + (SLOTS[i] == Slot.WEAPON ? 0 : options.get(i).get(0).score);
+        }
+
+        void branch(int depth, double armorMain, double weaponDPS) {
+            if (depth == SLOTS.length) {
+                final double dps = weaponDPS * (1 + (0.01d * (ownMainAttribute + armorMain)));
+                if (dps > bestDPS) {
+                    bestDPS = dps;
+                    bestItems = chosen.clone();
+                }
+                return;
+            }
+
+            final double weaponBound = weaponChosen(depth) ? weaponDPS : weaponBound();
+            final double bound = weaponBound * (1 + (0.01d * (ownMainAttribute + armorMain + armorBound[depth])));
+            if (bound <= bestDPS)
+                return;
+
+            for (Candidate candidate : options.get(depth)) {
+                chosen[depth] = candidate.item;
+                if (SLOTS[depth] == Slot.WEAPON)
+                    branch(depth + 1, armorMain, candidate.item == null ? 1 : candidate.score);
+                else
+                    branch(depth + 1, armorMain + candidate.score, weaponDPS);
+            }
+            chosen[depth] = null;
+        }
+
+        private boolean weaponChosen(int depth) {
+            return Slot.WEAPON.ordinal() < depth;
+        }
+
+        private double weaponBound() {
+            return Math.max(1, options.get(Slot.WEAPON.ordinal()).get(0).score);
+        }
+
+        Loadout toLoadout() {
+            final Map<Slot, Item> items = new EnumMap<>(Slot.class);
+            for (Slot slot : SLOTS)
+                if (bestItems[slot.ordinal()] != null)
+                    items.put(slot, bestItems[slot.ordinal()]);
+            return new Loadout(items, bestDPS);
+        }
+
+    }
+
+}
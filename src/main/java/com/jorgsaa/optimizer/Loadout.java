@@ -0,0 +1,27 @@
+package com.jorgsaa.optimizer;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record Loadout(Map<Slot, Item> items, double dps) {
+
+    public Loadout {
+        items = items.isEmpty() ? Map.of() : Collections.unmodifiableMap(new EnumMap<>(items));
+    }
+
+    public Item get(Slot slot) {
+        return items.get(slot);
+    }
+
+    public void equipTo(Character character) {
+        for (Item item : items.values())
+            if (character.getEquipment(item.getSlot()) != item)
+                character.equip(item);
+    }
+
+}
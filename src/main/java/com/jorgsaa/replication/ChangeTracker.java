@@ -0,0 +1,179 @@
+package com.jorgsaa.replication;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterListener;
+import com.jorgsaa.codec.VarInt;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Collects the changes of one character between flushes and encodes them as a versioned binary delta.
+ * <p>
+ * Changes are coalesced: only the last item equipped in each slot and the last level are kept, and
+ * anything that ends up back at its last flushed value is dropped. A delta is laid out as
+ * <pre>
+ * byte    format version
+ * varint  character id
+ * varint  version, one more than the version the replica must be at
+ * byte    mask, one bit set for each changed slot by ordinal, and the next bit set if the level changed
+ * zigzag  level, if changed
+ * varint  registry id of the item in each changed slot, in slot order
+ * </pre>
+ * Listener callbacks and flushes may run on different threads.
+ */
+public class ChangeTracker implements CharacterListener {
+
+    static final Slot[] SLOTS = Slot.values();
+    static final int LEVEL_CHANGED = 1 << SLOTS.length;
+
+    public static final byte FORMAT_VERSION = 1;
+    public static final int MAX_DELTA_SIZE = 1 + 5 + 5 + 1 + 5 + SLOTS.length * 5;
+
+    static {
+        if (SLOTS.length >= Byte.SIZE)
+            throw new IllegalStateException("Delta mask cannot hold " + SLOTS.length + " slots and the level bit");
+    }
+
+    private final int characterId;
+    private final ItemRegistry items;
+
+    private final Item[] published = new Item[SLOTS.length];
+    private final Item[] pending = new Item[SLOTS.length];
+    private int publishedLevel;
+    private int pendingLevel;
+    private int version;
+
+    private final Item[] encodedItems = new Item[SLOTS.length];
+    private int encodedLevel;
+    private boolean encoded;
+
+    public ChangeTracker(Character character, int characterId, ItemRegistry items) {
+        this.characterId = characterId;
+        this.items = items;
+        for (Slot slot : SLOTS)
+            published[slot.ordinal()] = pending[slot.ordinal()] = character.getEquipment(slot);
+        publishedLevel = pendingLevel = character.getLevel();
+    }
+
+    /**
+     * Starts tracking the character from its current state, which replicas must already hold as
+     * version 0.
+     */
+    public static ChangeTracker attach(Character character, int characterId, ItemRegistry items) {
+        final ChangeTracker tracker = new ChangeTracker(character, characterId, items);
+        character.addListener(tracker);
+        return tracker;
+    }
+
+    public int getCharacterId() {
+        return characterId;
+    }
+
+    /**
+     * @return the version of the last flushed delta, or 0 if none was flushed
+     */
+    public synchronized int getVersion() {
+        return version;
+    }
+
+    @Override
+    public synchronized void equipped(Character character, Item previous, Item item) {
+        pending[item.getSlot().ordinal()] = item;
+    }
+
+    @Override
+    public synchronized void levelChanged(Character character, int previousLevel, int level) {
+        pendingLevel = level;
+    }
+
+    public synchronized boolean hasChanges() {
+        return mask() != 0;
+    }
+
+    /**
+     * Writes the changes since the last flush as a delta without starting a new version. The delta only
+     * counts as sent once {@link #acknowledge()} is called; until then every call encodes the same
+     * version again, including any changes made in between. Nothing is written if nothing changed.
+     *
+     * @return whether a delta was written
+     */
+    public synchronized boolean encode(ByteBuffer buffer) {
+        final int mask = mask();
+        if (mask == 0) {
+            encoded = false;
+            return false;
+        }
+
+        final int start = buffer.position();
+        try {
+            buffer.put(FORMAT_VERSION);
+            VarInt.putUnsigned(buffer, characterId);
+            VarInt.putUnsigned(buffer, version + 1);
+            buffer.put((byte) mask);
+            if ((mask & LEVEL_CHANGED) != 0)
+                VarInt.putSigned(buffer, pendingLevel);
+            for (int slot = 0; slot < SLOTS.length; slot++) {
+                if ((mask & (1 << slot)) != 0)
+                    VarInt.putUnsigned(buffer, items.register(pending[slot]));
+            }
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            encoded = false;
+            throw e;
+        }
+
+        // Remember what was encoded, as pending may change again before the delta is acknowledged
+        System.arraycopy(pending, 0, encodedItems, 0, pending.length);
+        encodedLevel = pendingLevel;
+        encoded = true;
+        return true;
+    }
+
+    /**
+     * Marks the last encoded delta as delivered, making its state the base of the next version.
+     *
+     * @throws IllegalStateException if no delta was encoded since the last acknowledgement
+     */
+    public synchronized void acknowledge() {
+        if (!encoded)
+            throw new IllegalStateException("No delta to acknowledge");
+        System.arraycopy(encodedItems, 0, published, 0, published.length);
+        publishedLevel = encodedLevel;
+        version++;
+        encoded = false;
+    }
+
+    /**
+     * Encodes and immediately acknowledges the changes since the last flush.
+     *
+     * @return whether a delta was written
+     */
+    public synchronized boolean flush(ByteBuffer buffer) {
+        if (!encode(buffer))
+            return false;
+        acknowledge();
+        return true;
+    }
+
+    /**
+     * @return the delta since the last flush in a new buffer ready for reading, or {@code null} if
+     * nothing changed
+     */
+    public ByteBuffer flush() {
+        final ByteBuffer buffer = ByteBuffer.allocate(MAX_DELTA_SIZE);
+        return flush(buffer) ? buffer.flip() : null;
+    }
+
+    private int mask() {
+        int mask = pendingLevel != publishedLevel ? LEVEL_CHANGED : 0;
+        for (int slot = 0; slot < SLOTS.length; slot++) {
+            if (pending[slot] != published[slot])
+                mask |= 1 << slot;
+        }
+        return mask;
+    }
+
+}
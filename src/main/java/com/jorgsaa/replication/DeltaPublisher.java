@@ -0,0 +1,85 @@
+package com.jorgsaa.replication;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.item.ItemRegistry;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Flushes a set of change trackers on a fixed interval, so a burst of changes to a character within one
+ * interval is sent as a single delta. Deltas are handed to the sink on the publisher's thread, in
+ * version order per character.
+ */
+public class DeltaPublisher implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(DeltaPublisher.class.getName());
+
+    private final ItemRegistry items;
+    private final Consumer<ByteBuffer> sink;
+    private final List<ChangeTracker> trackers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler;
+    private final ByteBuffer buffer = ByteBuffer.allocate(ChangeTracker.MAX_DELTA_SIZE);
+
+    public DeltaPublisher(ItemRegistry items, long interval, TimeUnit unit, Consumer<ByteBuffer> sink) {
+        this.items = items;
+        this.sink = sink;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            final Thread thread = new Thread(task, "delta-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flush, interval, interval, unit);
+    }
+
+    public ChangeTracker track(Character character, int characterId) {
+        final ChangeTracker tracker = ChangeTracker.attach(character, characterId, items);
+        trackers.add(tracker);
+        return tracker;
+    }
+
+    public void untrack(Character character, ChangeTracker tracker) {
+        character.removeListener(tracker);
+        trackers.remove(tracker);
+    }
+
+    /**
+     * Flushes every tracker now. The sink receives a read-only buffer that is only valid until it
+     * returns. A tracker only moves to its next version once the sink accepted its delta; if encoding or
+     * the sink fails, the failure is logged and the same version is sent again on the next flush.
+     */
+    public synchronized void flush() {
+        for (ChangeTracker tracker : trackers) {
+            try {
+                buffer.clear();
+                if (tracker.encode(buffer)) {
+                    sink.accept(buffer.flip().asReadOnlyBuffer());
+                    tracker.acknowledge();
+                }
+            } catch (RuntimeException e) {
+                // Caught per tracker so one failure neither blocks the others nor cancels the schedule
+                LOGGER.log(System.Logger.Level.WARNING, "Failed to publish delta for character " + tracker.getCharacterId(), e);
+            }
+        }
+    }
+
+    /**
+     * Stops the schedule after a final flush.
+     */
+    @Override
+    public void close() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+}
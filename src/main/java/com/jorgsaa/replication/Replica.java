@@ -0,0 +1,104 @@
+package com.jorgsaa.replication;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.codec.VarInt;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Copy of a tracked character kept up to date by applying the deltas of its {@link ChangeTracker}.
+ * Deltas must be applied in version order; a gap means the replica has to be rebuilt from a full copy,
+ * for example one encoded with {@link com.jorgsaa.codec.CharacterCodec}.
+ */
+public class Replica {
+
+    private final int characterId;
+    private final Character character;
+    private final ItemRegistry items;
+    private int version;
+
+    /**
+     * @param character a copy of the tracked character as of {@code version}
+     */
+    public Replica(int characterId, Character character, ItemRegistry items, int version) {
+        this.characterId = characterId;
+        this.character = character;
+        this.items = items;
+        this.version = version;
+    }
+
+    public int getCharacterId() {
+        return characterId;
+    }
+
+    public Character getCharacter() {
+        return character;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Reads the character id of a delta without consuming it, so deltas can be routed to replicas.
+     */
+    public static int peekCharacterId(ByteBuffer delta) {
+        final ByteBuffer view = delta.duplicate();
+        checkFormat(view.get());
+        return VarInt.getUnsigned(view);
+    }
+
+    /**
+     * Applies one delta, consuming it from the buffer. Level and equipment are restored without
+     * validation, as they were validated when the tracked character changed them, and the level change is
+     * not counted in metrics or events. The whole delta is decoded before the character is touched, so on
+     * any exception the replica and the buffer position are left unchanged.
+     *
+     * @throws IllegalStateException     if the delta is for another character or does not follow the
+     *                                   replica's version
+     * @throws IllegalArgumentException  if the delta has an unsupported format
+     * @throws RuntimeException          if the delta is truncated or references an unknown item
+     */
+    public void apply(ByteBuffer delta) {
+        final int start = delta.position();
+        final int level;
+        final Item[] equipment = new Item[ChangeTracker.SLOTS.length];
+        final int deltaVersion;
+        final int mask;
+        try {
+            checkFormat(delta.get());
+            final int id = VarInt.getUnsigned(delta);
+            if (id != characterId)
+                throw new IllegalStateException(String.format("Delta for character %d applied to replica of %d", id, characterId));
+            deltaVersion = VarInt.getUnsigned(delta);
+            if (deltaVersion != version + 1)
+                throw new IllegalStateException(String.format("Delta version %d does not follow replica version %d", deltaVersion, version));
+
+            mask = delta.get();
+            level = (mask & ChangeTracker.LEVEL_CHANGED) != 0 ? VarInt.getSigned(delta) : 0;
+            for (int slot = 0; slot < equipment.length; slot++) {
+                if ((mask & (1 << slot)) != 0)
+                    equipment[slot] = items.get(VarInt.getUnsigned(delta));
+            }
+        } catch (RuntimeException e) {
+            delta.position(start);
+            throw e;
+        }
+
+        if ((mask & ChangeTracker.LEVEL_CHANGED) != 0)
+            character.restoreLevel(level);
+        for (Item item : equipment) {
+            if (item != null)
+                character.restoreEquipment(item);
+        }
+        version = deltaVersion;
+    }
+
+    private static void checkFormat(byte format) {
+        if (format != ChangeTracker.FORMAT_VERSION)
+            throw new IllegalArgumentException("Unsupported delta format: " + format);
+    }
+
+}
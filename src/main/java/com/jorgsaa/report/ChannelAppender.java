@@ -0,0 +1,97 @@
+package com.jorgsaa.report;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * {@link Appendable} that encodes characters as UTF-8 into a buffer and writes it to a channel whenever
+ * it fills up.
+ */
+public class ChannelAppender implements Appendable, Flushable {
+
+    private static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+    private char highSurrogate;
+
+    public ChannelAppender(WritableByteChannel channel) {
+        this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+    }
+
+    public ChannelAppender(WritableByteChannel channel, ByteBuffer buffer) {
+        if (buffer.capacity() < 4)
+            throw new IllegalArgumentException("Buffer must hold at least one encoded character");
+        this.channel = channel;
+        this.buffer = buffer;
+        buffer.clear();
+    }
+
+    @Override
+    public ChannelAppender append(CharSequence sequence) throws IOException {
+        return append(sequence, 0, sequence.length());
+    }
+
+    @Override
+    public ChannelAppender append(CharSequence sequence, int start, int end) throws IOException {
+        for (int i = start; i < end; i++)
+            append(sequence.charAt(i));
+        return this;
+    }
+
+    @Override
+    public ChannelAppender append(char c) throws IOException {
+        if (buffer.remaining() < 4)
+            drain();
+
+        if (highSurrogate != 0) {
+            final char high = highSurrogate;
+            highSurrogate = 0;
+            if (Character.isLowSurrogate(c)) {
+                final int codePoint = Character.toCodePoint(high, c);
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+                return this;
+            }
+            buffer.put((byte) '?');
+            return append(c);
+        }
+
+        if (c < 0x80) {
+            buffer.put((byte) c);
+        } else if (c < 0x800) {
+            buffer.put((byte) (0xC0 | (c >> 6)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        } else if (Character.isHighSurrogate(c)) {
+            highSurrogate = c;
+        } else if (Character.isLowSurrogate(c)) {
+            buffer.put((byte) '?');
+        } else {
+            buffer.put((byte) (0xE0 | (c >> 12)));
+            buffer.put((byte) (0x80 | ((c >> 6) & 0x3F)));
+            buffer.put((byte) (0x80 | (c & 0x3F)));
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (highSurrogate != 0) {
+            highSurrogate = 0;
+            buffer.put((byte) '?');
+        }
+        drain();
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+}
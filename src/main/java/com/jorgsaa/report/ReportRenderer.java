@@ -0,0 +1,142 @@
+package com.jorgsaa.report;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.CharacterView;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.weapon.Weapon;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Locale;
+
+/**
+ * Writes the same text as the {@code toString()} methods of characters and items directly to an
+ * {@link Appendable}, formatting numbers by hand instead of through {@link String#format}.
+ * <p>
+ * Decimals are rounded half-up on their shortest decimal representation, as {@link java.util.Formatter}
+ * does. Values too large for exact long arithmetic, or too close to a rounding midpoint to decide from
+ * the binary value, fall back to {@code String.format} so output stays identical. Like those
+ * {@code toString()} methods, numbers are always formatted for {@link Locale#ROOT}.
+ * <p>
+ * Instances hold scratch space and are not thread-safe.
+ */
+public class ReportRenderer {
+
+    private static final Slot[] SLOTS = Slot.values();
+    private static final long[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+    private static final double FAST_PATH_LIMIT = 1e9;
+    private static final double MIDPOINT_MARGIN = 1e-6;
+
+    private final char[] digits = new char[20];
+
+    /**
+     * Streams a report of every character to the channel, one character after another separated by
+     * newlines, encoded as UTF-8.
+     */
+    public void renderRoster(Iterable<? extends CharacterView> roster, WritableByteChannel channel) throws IOException {
+        final ChannelAppender out = new ChannelAppender(channel);
+        for (CharacterView character : roster) {
+            render(character, out);
+            out.append('\n');
+        }
+        out.flush();
+    }
+
+    public void render(CharacterView character, Appendable out) throws IOException {
+        out.append(String.valueOf(character.getName())).append(" (Level ");
+        appendInt(character.getLevel(), 0, out);
+        out.append(") ");
+        render(character.getTotalPrimaryAttributes(), out);
+        out.append(" DPS: ");
+        appendFixed(character.dpsAsDouble(), 2, out);
+        out.append("\n Equipment: [\n");
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            if (item != null) {
+                out.append('\t');
+                render(item, out);
+                out.append('\n');
+            }
+        }
+        out.append(']');
+    }
+
+    public void render(Item item, Appendable out) throws IOException {
+        if (item instanceof Armor armor) {
+            appendHeading(item, out);
+            render(armor.getAttributes(), out);
+            out.append(' ');
+        } else if (item instanceof Weapon weapon) {
+            appendHeading(item, out);
+            out.append("[ Damage: ");
+            appendFixed(weapon.getDamage(), 6, out);
+            out.append(" Attack Speed: ");
+            appendFixed(weapon.getAttackSpeed(), 6, out);
+            out.append(" ]");
+        } else {
+            out.append(String.valueOf(item));
+        }
+    }
+
+    public void render(PrimaryAttribute attributes, Appendable out) throws IOException {
+        out.append("[ Strength: ");
+        appendInt(attributes.strength(), 3, out);
+        out.append(" Dexterity: ");
+        appendInt(attributes.dexterity(), 3, out);
+        out.append(" Intelligence: ");
+        appendInt(attributes.intelligence(), 3, out);
+        out.append(" ]");
+    }
+
+    private void appendHeading(Item item, Appendable out) throws IOException {
+        out.append(String.valueOf(item.getName())).append(" (Level ");
+        appendInt(item.getRequiredLevel(), 0, out);
+        out.append(") ");
+    }
+
+    // Equivalent of %{width}d
+    private void appendInt(int value, int width, Appendable out) throws IOException {
+        int position = digits.length;
+        long remaining = Math.abs((long) value);
+        do {
+            digits[--position] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        if (value < 0)
+            digits[--position] = '-';
+        for (int padding = width - (digits.length - position); padding > 0; padding--)
+            out.append(' ');
+        for (int i = position; i < digits.length; i++)
+            out.append(digits[i]);
+    }
+
+    // Equivalent of %.{precision}f
+    private void appendFixed(double value, int precision, Appendable out) throws IOException {
+        final double scaled = Math.abs(value) * POWERS_OF_TEN[precision];
+        final double fraction = scaled - Math.floor(scaled);
+        if (!(scaled < FAST_PATH_LIMIT) || Math.abs(fraction - 0.5) < MIDPOINT_MARGIN) {
+            out.append(String.format(Locale.ROOT, "%." + precision + "f", value));
+            return;
+        }
+
+        long units = Math.round(scaled);
+        int position = digits.length;
+        for (int i = 0; i < precision; i++) {
+            digits[--position] = (char) ('0' + units % 10);
+            units /= 10;
+        }
+        if (precision > 0)
+            digits[--position] = '.';
+        do {
+            digits[--position] = (char) ('0' + units % 10);
+            units /= 10;
+        } while (units != 0);
+        if (value < 0 || (value == 0 && 1 / value < 0))
+            digits[--position] = '-';
+        for (int i = position; i < digits.length; i++)
+            out.append(digits[i]);
+    }
+
+}
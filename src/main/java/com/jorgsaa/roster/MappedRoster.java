@@ -0,0 +1,213 @@
+package com.jorgsaa.roster;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * Roster persisted in a memory-mapped file of fixed-width records, read and updated in place.
+ * <pre>
+ * header  := magic:i32 version:i32 capacity:i32 size:i32 nameCapacity:i32 nameSize:i32 (padded to 32 bytes)
+ * record  := class:u8 pad:u8[3] level:i32 itemId:i32[4] nameOffset:i32 nameLength:i32
+ * names   := UTF-8 bytes referenced by the records
+ * </pre>
+ * Item ids refer to an {@link ItemRegistry} that must assign the same ids on every start, for example one
+ * filled from the same catalog in the same order. The whole file is a single mapping and is therefore
+ * limited to 2 GB. Not thread-safe.
+ */
+public class MappedRoster implements AutoCloseable {
+
+    public static final int MAGIC = 0x52504752; // "RPGR"
+    public static final int VERSION = 1;
+
+    private static final Slot[] SLOTS = Slot.values();
+
+    private static final int HEADER_SIZE = 32;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int NAME_CAPACITY_OFFSET = 16;
+    private static final int NAME_SIZE_OFFSET = 20;
+
+    private static final int RECORD_SIZE = 32;
+    private static final int CLASS_OFFSET = 0;
+    private static final int LEVEL_OFFSET = 4;
+    private static final int ITEMS_OFFSET = 8;
+    private static final int NAME_OFFSET = ITEMS_OFFSET + SLOTS.length * 4;
+    private static final int NAME_LENGTH_OFFSET = NAME_OFFSET + 4;
+
+    static {
+        if (NAME_LENGTH_OFFSET + 4 > RECORD_SIZE)
+            throw new IllegalStateException("Record of " + SLOTS.length + " slots exceeds " + RECORD_SIZE + " bytes");
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int nameCapacity;
+    private final int namesStart;
+
+    private MappedRoster(FileChannel channel, MappedByteBuffer buffer) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.getInt(CAPACITY_OFFSET);
+        this.nameCapacity = buffer.getInt(NAME_CAPACITY_OFFSET);
+        this.namesStart = HEADER_SIZE + capacity * RECORD_SIZE;
+    }
+
+    public static MappedRoster create(Path path, int capacity, int nameCapacity) throws IOException {
+        final long fileSize = HEADER_SIZE + (long) capacity * RECORD_SIZE + nameCapacity;
+        if (fileSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Roster of " + fileSize + " bytes exceeds a single mapping");
+
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(SIZE_OFFSET, 0);
+        buffer.putInt(NAME_CAPACITY_OFFSET, nameCapacity);
+        buffer.putInt(NAME_SIZE_OFFSET, 0);
+        return new MappedRoster(channel, buffer);
+    }
+
+    public static MappedRoster open(Path path) throws IOException {
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            final long fileSize = channel.size();
+            if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE)
+                throw new IOException("Not a version " + VERSION + " roster file: " + path);
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION)
+                throw new IOException("Not a version " + VERSION + " roster file: " + path);
+
+            final int capacity = buffer.getInt(CAPACITY_OFFSET);
+            final int size = buffer.getInt(SIZE_OFFSET);
+            final int nameCapacity = buffer.getInt(NAME_CAPACITY_OFFSET);
+            final int nameSize = buffer.getInt(NAME_SIZE_OFFSET);
+            if (capacity < 0 || nameCapacity < 0
+                    || HEADER_SIZE + (long) capacity * RECORD_SIZE + nameCapacity > fileSize
+                    || size < 0 || size > capacity || nameSize < 0 || nameSize > nameCapacity)
+                throw new IOException("Corrupt roster header in " + path);
+            return new MappedRoster(channel, buffer);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int size() {
+        return buffer.getInt(SIZE_OFFSET);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public int add(CharacterClass characterClass, String name) {
+        final int index = size();
+        if (index == capacity)
+            throw new IllegalStateException("Roster is full at " + capacity + " characters");
+
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        final int nameSize = buffer.getInt(NAME_SIZE_OFFSET);
+        if (nameSize + bytes.length > nameCapacity)
+            throw new IllegalStateException("Name region is full at " + nameCapacity + " bytes");
+        buffer.put(namesStart + nameSize, bytes);
+        buffer.putInt(NAME_SIZE_OFFSET, nameSize + bytes.length);
+
+        final int record = record(index);
+        buffer.put(record + CLASS_OFFSET, (byte) characterClass.getId());
+        buffer.putInt(record + LEVEL_OFFSET, 1);
+        for (Slot slot : SLOTS)
+            buffer.putInt(record + ITEMS_OFFSET + slot.ordinal() * 4, ItemRegistry.NO_ITEM);
+        buffer.putInt(record + NAME_OFFSET, nameSize);
+        buffer.putInt(record + NAME_LENGTH_OFFSET, bytes.length);
+        buffer.putInt(SIZE_OFFSET, index + 1);
+        return index;
+    }
+
+    public int add(Character character, ItemRegistry items) {
+        final int index = add(character.getCharacterClass(), character.getName());
+        write(index, character, items);
+        return index;
+    }
+
+    public CharacterClass getCharacterClass(int index) {
+        return CharacterClass.byId(buffer.get(record(checkIndex(index)) + CLASS_OFFSET));
+    }
+
+    public String getName(int index) {
+        final int record = record(checkIndex(index));
+        final byte[] bytes = new byte[buffer.getInt(record + NAME_LENGTH_OFFSET)];
+        buffer.get(namesStart + buffer.getInt(record + NAME_OFFSET), bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int getLevel(int index) {
+        return buffer.getInt(record(checkIndex(index)) + LEVEL_OFFSET);
+    }
+
+    public void setLevel(int index, int level) {
+        buffer.putInt(record(checkIndex(index)) + LEVEL_OFFSET, level);
+    }
+
+    public int getItemId(int index, Slot slot) {
+        return buffer.getInt(record(checkIndex(index)) + ITEMS_OFFSET + slot.ordinal() * 4);
+    }
+
+    public void setItemId(int index, Slot slot, int itemId) {
+        buffer.putInt(record(checkIndex(index)) + ITEMS_OFFSET + slot.ordinal() * 4, itemId);
+    }
+
+    /**
+     * Overwrites the level and equipment of the record with those of the character.
+     */
+    public void write(int index, Character character, ItemRegistry items) {
+        setLevel(index, character.getLevel());
+        for (Slot slot : SLOTS) {
+            final Item item = character.getEquipment(slot);
+            setItemId(index, slot, item == null ? ItemRegistry.NO_ITEM : items.register(item));
+        }
+    }
+
+    public Character toCharacter(int index, ItemRegistry items) {
+        final Character character = getCharacterClass(index).newCharacter(getName(index));
+        character.restoreLevel(getLevel(index));
+        for (Slot slot : SLOTS) {
+            final Item item = items.get(getItemId(index, slot));
+            if (item != null)
+                character.restoreEquipment(item);
+        }
+        return character;
+    }
+
+    public void force() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+    private static int record(int index) {
+        return HEADER_SIZE + index * RECORD_SIZE;
+    }
+
+    private int checkIndex(int index) {
+        return Objects.checkIndex(index, size());
+    }
+
+}
@@ -0,0 +1,190 @@
+package com.jorgsaa.server;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Opens many concurrent sessions against a {@link SessionServer} and reports throughput and latency
+ * percentiles. All sessions connect and create their character before the clock starts, then each sends
+ * a seeded random mix of INSPECT, EQUIP, LEVELUP and LEVEL requests, one at a time.
+ * <p>
+ * Run with {@code java com.jorgsaa.server.LoadDriver [sessions] [requests per session] [host:port]}. Without
+ * an address an in-process server is started. Each session uses one file descriptor on each side, so an
+ * in-process run needs twice as many descriptors as sessions.
+ */
+public final class LoadDriver {
+
+    public record Report(int sessions, int failedSessions, long requests, long elapsedNanos,
+                         long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+
+        public double requestsPerSecond() {
+            return elapsedNanos == 0 ? 0 : requests * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d sessions (%d failed), %d requests in %.2f s: %.0f req/s, p50 %.1f us, p99 %.1f us, p99.9 %.1f us, max %.1f us",
+                    sessions, failedSessions, requests, elapsedNanos / 1e9, requestsPerSecond(),
+                    p50Nanos / 1e3, p99Nanos / 1e3, p999Nanos / 1e3, maxNanos / 1e3);
+        }
+
+    }
+
+    private static final CharacterClass[] CLASSES = CharacterClass.values();
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        final int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        final int requests = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+        System.out.println("Virtual threads: " + SessionExecutors.hasVirtualThreads());
+
+        if (args.length > 2) {
+            final String[] address = args[2].split(":");
+            System.out.println(run(new InetSocketAddress(address[0], Integer.parseInt(address[1])), sessions, requests, 1));
+            return;
+        }
+        try (SessionServer server = SessionServer.start(sampleItems())) {
+            System.out.println(run(new InetSocketAddress("127.0.0.1", server.getPort()), sessions, requests, 1));
+        }
+    }
+
+    /**
+     * Armor of every type for every slot and a weapon of every type, at a spread of required levels.
+     */
+    public static ItemRegistry sampleItems() {
+        final ItemRegistry items = new ItemRegistry();
+        for (int level = 1; level <= 50; level += 7) {
+            for (ArmorType type : ArmorType.values()) {
+                for (Slot slot : new Slot[]{Slot.HEAD, Slot.BODY, Slot.LEGS})
+                    items.register(new Armor(type + " " + slot + " " + level, level, slot, type, PrimaryAttribute.of(level, level / 2, level / 3)));
+            }
+            for (WeaponType type : WeaponType.values())
+                items.register(new Weapon(type + " " + level, level, type, 2d + level, 1.1d));
+        }
+        return items;
+    }
+
+    public static Report run(InetSocketAddress address, int sessions, int requestsPerSession, long seed) throws InterruptedException {
+        final long[] latencies = new long[sessions * requestsPerSession];
+        final CountDownLatch connected = new CountDownLatch(sessions);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(sessions);
+        final boolean[] completed = new boolean[sessions];
+
+        final long elapsed;
+        final ExecutorService clients = SessionExecutors.newThreadPerTaskExecutor("load-driver");
+        try {
+            for (int session = 0; session < sessions; session++) {
+                final int index = session;
+                clients.execute(() -> {
+                    boolean ready = false;
+                    try (Socket socket = new Socket()) {
+                        socket.setTcpNoDelay(true);
+                        socket.connect(address);
+                        final BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+                        final Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8));
+                        request(in, out, "NEW " + CLASSES[index % CLASSES.length] + " Player " + index);
+                        final int itemCount = Integer.parseInt(request(in, out, "ITEMS").substring(3));
+                        ready = true;
+                        connected.countDown();
+                        start.await();
+
+                        final SplittableRandom random = new SplittableRandom(seed + index);
+                        final int offset = index * requestsPerSession;
+                        for (int i = 0; i < requestsPerSession; i++) {
+                            final String command = nextCommand(random, itemCount);
+                            final long begin = System.nanoTime();
+                            request(in, out, command);
+                            latencies[offset + i] = System.nanoTime() - begin;
+                        }
+                        request(in, out, "QUIT");
+                        completed[index] = true;
+                    } catch (IOException | RuntimeException e) {
+                        // Counted as a failed session below
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        if (!ready)
+                            connected.countDown();
+                        done.countDown();
+                    }
+                });
+            }
+
+            connected.await();
+            final long begin = System.nanoTime();
+            start.countDown();
+            done.await();
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            clients.shutdown();
+        }
+
+        // The latch orders every session's writes before this point; only completed sessions are counted
+        final long[] completedLatencies = new long[latencies.length];
+        int count = 0;
+        int completedSessions = 0;
+        for (int session = 0; session < sessions; session++) {
+            if (completed[session]) {
+                completedSessions++;
+                System.arraycopy(latencies, session * requestsPerSession, completedLatencies, count, requestsPerSession);
+                count += requestsPerSession;
+            }
+        }
+        final long[] sorted = Arrays.copyOf(completedLatencies, count);
+        Arrays.sort(sorted);
+        return new Report(sessions, sessions - completedSessions, count, elapsed,
+                percentile(sorted, 0.5), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1]);
+    }
+
+    private static String nextCommand(SplittableRandom random, int itemCount) {
+        final int roll = random.nextInt(10);
+        if (roll < 4)
+            return "INSPECT";
+        if (roll < 7)
+            return "EQUIP " + random.nextInt(itemCount);
+        if (roll < 9)
+            return "LEVELUP";
+        return "LEVEL " + (1 + random.nextInt(60));
+    }
+
+    private static String request(BufferedReader in, Writer out, String command) throws IOException {
+        out.write(command);
+        out.write('\n');
+        out.flush();
+        final String response = in.readLine();
+        if (response == null)
+            throw new IOException("Connection closed by server");
+        return response;
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0)
+            return 0;
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+}
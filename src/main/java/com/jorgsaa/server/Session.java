@@ -0,0 +1,103 @@
+package com.jorgsaa.server;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+
+/**
+ * State and command handling of one connected player. A session owns one character, created by its
+ * first {@code NEW} command, and is only ever used by the thread serving its connection.
+ */
+final class Session {
+
+    private final ItemRegistry items;
+    private Character character;
+
+    Session(ItemRegistry items) {
+        this.items = items;
+    }
+
+    Character getCharacter() {
+        return character;
+    }
+
+    /**
+     * @return the response line for the command, without line terminator
+     */
+    String handle(String line) {
+        final int space = line.indexOf(' ');
+        final String command = space < 0 ? line : line.substring(0, space);
+        final String argument = space < 0 ? "" : line.substring(space + 1).trim();
+
+        try {
+            return switch (command) {
+                case "NEW" -> create(argument);
+                case "ITEMS" -> "OK " + items.size();
+                case "EQUIP" -> equip(argument);
+                case "LEVELUP" -> levelUp();
+                case "LEVEL" -> setLevel(argument);
+                case "INSPECT" -> inspect();
+                case "QUIT" -> "BYE";
+                default -> "ERR UNKNOWN_COMMAND";
+            };
+        } catch (NumberFormatException e) {
+            return "ERR BAD_ARGUMENT";
+        }
+    }
+
+    private String create(String argument) {
+        final int space = argument.indexOf(' ');
+        if (space < 0)
+            return "ERR BAD_ARGUMENT";
+        final CharacterClass characterClass;
+        try {
+            characterClass = CharacterClass.valueOf(argument.substring(0, space));
+        } catch (IllegalArgumentException e) {
+            return "ERR UNKNOWN_CLASS";
+        }
+        character = characterClass.newCharacter(argument.substring(space + 1));
+        return "OK";
+    }
+
+    private String equip(String argument) {
+        if (character == null)
+            return "ERR NO_CHARACTER";
+        final int id = Integer.parseInt(argument);
+        if (id < 0 || id >= items.size())
+            return "ERR UNKNOWN_ITEM";
+        final Item item = items.get(id);
+        final EquipResult result = character.tryEquip(item);
+        return result.isSuccess() ? "OK" : "ERR " + result.name();
+    }
+
+    private String levelUp() {
+        if (character == null)
+            return "ERR NO_CHARACTER";
+        if (character.getLevel() == Integer.MAX_VALUE)
+            return "ERR BAD_ARGUMENT";
+        character.levelUp();
+        return "OK " + character.getLevel();
+    }
+
+    private String setLevel(String argument) {
+        if (character == null)
+            return "ERR NO_CHARACTER";
+        final int level = Integer.parseInt(argument);
+        if (level < 1)
+            return "ERR BAD_ARGUMENT";
+        character.setLevel(level);
+        return "OK " + level;
+    }
+
+    private String inspect() {
+        if (character == null)
+            return "ERR NO_CHARACTER";
+        final PrimaryAttribute total = character.getTotalPrimaryAttributes();
+        return "OK " + character.getCharacterClass() + ' ' + character.getLevel() + ' ' + total.strength() + ' '
+                + total.dexterity() + ' ' + total.intelligence() + ' ' + character.dpsAsDouble();
+    }
+
+}
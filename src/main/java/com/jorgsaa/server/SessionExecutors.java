@@ -0,0 +1,54 @@
+package com.jorgsaa.server;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executors that run each task on its own thread. On a JDK with virtual threads those are virtual
+ * threads, found reflectively because the project targets Java 17. Otherwise a cached pool of daemon
+ * platform threads with small stacks is used.
+ */
+public final class SessionExecutors {
+
+    private static final long PLATFORM_STACK_SIZE = 256 * 1024;
+    private static final Method VIRTUAL_EXECUTOR = findVirtualExecutor();
+
+    private SessionExecutors() {
+    }
+
+    public static boolean hasVirtualThreads() {
+        return VIRTUAL_EXECUTOR != null;
+    }
+
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        if (VIRTUAL_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException e) {
+                // Fall through to platform threads
+            }
+        }
+        return Executors.newCachedThreadPool(platformThreads(name));
+    }
+
+    private static ThreadFactory platformThreads(String name) {
+        final AtomicInteger count = new AtomicInteger();
+        return task -> {
+            final Thread thread = new Thread(null, task, name + "-" + count.incrementAndGet(), PLATFORM_STACK_SIZE);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static Method findVirtualExecutor() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.jorgsaa.server;
+
+import com.jorgsaa.item.ItemRegistry;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ProtocolException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Embedded server for players on the loopback interface, one thread per session.
+ * <p>
+ * The protocol is line based UTF-8. Each request line gets exactly one response line, starting with
+ * {@code OK} or {@code ERR <reason>}:
+ * <pre>
+ * NEW &lt;class&gt; &lt;name&gt;   create the session's character, e.g. NEW WARRIOR Conan
+ * ITEMS                 OK &lt;number of items&gt;
+ * EQUIP &lt;item id&gt;       equip an item from the registry, ERR &lt;EquipResult&gt; when rejected
+ * LEVELUP               OK &lt;level&gt;
+ * LEVEL &lt;level&gt;         OK &lt;level&gt;
+ * INSPECT               OK &lt;class&gt; &lt;level&gt; &lt;strength&gt; &lt;dexterity&gt; &lt;intelligence&gt; &lt;dps&gt;
+ * QUIT                  BYE, then the server closes the connection
+ * </pre>
+ * A request line longer than {@link #MAX_LINE_LENGTH} characters gets {@code ERR LINE_TOO_LONG} and the
+ * connection is closed, so a client cannot make the server buffer unbounded input.
+ * Sessions run on virtual threads when the JDK has them, see {@link SessionExecutors}.
+ */
+public class SessionServer implements AutoCloseable {
+
+    private static final System.Logger LOGGER = System.getLogger(SessionServer.class.getName());
+    public static final int MAX_LINE_LENGTH = 1024;
+
+    private static final int BACKLOG = 16 * 1024;
+    private static final long MIN_ACCEPT_BACKOFF_MILLIS = 5;
+    private static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+
+    private final ItemRegistry items;
+    private final ServerSocket serverSocket;
+    private final ExecutorService sessions;
+    private final Thread acceptor;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private volatile boolean closed;
+
+    private SessionServer(ItemRegistry items, int port) throws IOException {
+        this.items = items;
+        this.serverSocket = new ServerSocket(port, BACKLOG, InetAddress.getLoopbackAddress());
+        this.sessions = SessionExecutors.newThreadPerTaskExecutor("session");
+        this.acceptor = new Thread(this::accept, "session-acceptor");
+        this.acceptor.setDaemon(true);
+    }
+
+    /**
+     * Serves the {@link LoadDriver#sampleItems() sample items} on the given port until the process is
+     * stopped.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        final SessionServer server = start(LoadDriver.sampleItems(), args.length > 0 ? Integer.parseInt(args[0]) : 0);
+        System.out.println("Listening on " + server.getPort() + ", virtual threads: " + SessionExecutors.hasVirtualThreads());
+        server.acceptor.join();
+    }
+
+    /**
+     * Starts a server on an ephemeral loopback port.
+     */
+    public static SessionServer start(ItemRegistry items) throws IOException {
+        return start(items, 0);
+    }
+
+    public static SessionServer start(ItemRegistry items, int port) throws IOException {
+        final SessionServer server = new SessionServer(items, port);
+        server.acceptor.start();
+        return server;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public int getActiveSessions() {
+        return activeSessions.get();
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    private void accept() {
+        long backoff = 0;
+        while (!closed) {
+            final Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (IOException e) {
+                if (closed)
+                    return;
+                // Typically out of file descriptors; retrying at once would only spin on the same error
+                backoff = backoff == 0 ? MIN_ACCEPT_BACKOFF_MILLIS : Math.min(backoff * 2, MAX_ACCEPT_BACKOFF_MILLIS);
+                LOGGER.log(System.Logger.Level.WARNING, "Accepting a session failed, retrying in " + backoff + " ms", e);
+                try {
+                    Thread.sleep(backoff);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+                continue;
+            }
+            backoff = 0;
+            handOff(socket);
+        }
+    }
+
+    private void handOff(Socket socket) {
+        try {
+            socket.setTcpNoDelay(true);
+            connections.add(socket);
+            sessions.execute(() -> serve(socket));
+        } catch (IOException | RejectedExecutionException e) {
+            connections.remove(socket);
+            if (!closed)
+                LOGGER.log(System.Logger.Level.WARNING, "Could not start a session", e);
+            try {
+                socket.close();
+            } catch (IOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        activeSessions.incrementAndGet();
+        final Session session = new Session(items);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            final StringBuilder buffer = new StringBuilder();
+            while (true) {
+                final String line;
+                try {
+                    line = readLine(in, buffer);
+                } catch (ProtocolException e) {
+                    out.write("ERR LINE_TOO_LONG\n");
+                    out.flush();
+                    return;
+                }
+                if (line == null)
+                    return;
+                final String response = session.handle(line);
+                requests.increment();
+                out.write(response);
+                out.write('\n');
+                out.flush();
+                if (response.equals("BYE"))
+                    return;
+            }
+        } catch (IOException e) {
+            // The client went away or the server is shutting down; either way the session is over
+        } finally {
+            connections.remove(socket);
+            activeSessions.decrementAndGet();
+        }
+    }
+
+    /**
+     * Reads a line ended by {@code \n} or {@code \r\n}, like {@link BufferedReader#readLine()} but without
+     * buffering more than {@link #MAX_LINE_LENGTH} characters.
+     *
+     * @return the line, or null at the end of the stream
+     * @throws ProtocolException if the line is longer than {@link #MAX_LINE_LENGTH}
+     */
+    private static String readLine(Reader in, StringBuilder line) throws IOException {
+        line.setLength(0);
+        int c;
+        while ((c = in.read()) != '\n') {
+            if (c == -1)
+                return line.length() == 0 ? null : line.toString();
+            if (line.length() == MAX_LINE_LENGTH)
+                throw new ProtocolException("Request line exceeds " + MAX_LINE_LENGTH + " characters");
+            line.append((char) c);
+        }
+        final int length = line.length();
+        return length > 0 && line.charAt(length - 1) == '\r' ? line.substring(0, length - 1) : line.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        serverSocket.close();
+        for (Socket socket : connections)
+            socket.close();
+        sessions.shutdown();
+        try {
+            sessions.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
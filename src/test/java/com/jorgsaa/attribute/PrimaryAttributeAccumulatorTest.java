@@ -0,0 +1,63 @@
+package com.jorgsaa.attribute;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrimaryAttributeAccumulatorTest {
+
+    private PrimaryAttributeAccumulator accumulator;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        accumulator = new PrimaryAttributeAccumulator(PrimaryAttribute.of(1, 2, 3));
+    }
+
+    @Test
+    void add_WhenValid_MatchesPrimaryAttributeAdd() {
+        // Arrange
+        PrimaryAttribute other = PrimaryAttribute.of(4, -5, 6);
+
+        // Act
+        accumulator.add(other);
+
+        // Assert
+        assertEquals(PrimaryAttribute.of(1, 2, 3).add(other), accumulator.toPrimaryAttribute());
+    }
+
+    @Test
+    void subtract_AfterAdd_RestoresOriginal() {
+        // Arrange
+        PrimaryAttribute other = PrimaryAttribute.of(40, 50, 60);
+
+        // Act
+        accumulator.add(other).subtract(other);
+
+        // Assert
+        assertEquals(PrimaryAttribute.of(1, 2, 3), accumulator.toPrimaryAttribute());
+    }
+
+    @Test
+    void addMultiplied_WhenValid_MatchesPrimaryAttributeMultiply() {
+        // Arrange
+        PrimaryAttribute gain = PrimaryAttribute.of(3, 2, 1);
+
+        // Act
+        accumulator.addMultiplied(gain, 9);
+
+        // Assert
+        assertEquals(PrimaryAttribute.of(1, 2, 3).add(gain.multiply(9)), accumulator.toPrimaryAttribute());
+    }
+
+    @Test
+    void clear_ReturnsZeroAttributes() {
+        // Act
+        accumulator.clear();
+
+        // Assert
+        assertEquals(PrimaryAttribute.ZERO, accumulator.toPrimaryAttribute());
+    }
+
+}
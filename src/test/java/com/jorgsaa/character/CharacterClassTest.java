@@ -0,0 +1,38 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class CharacterClassTest {
+
+    @Test
+    void canEquip_ForEveryArmorType_MatchesValidArmorTypes() {
+        for (CharacterClass characterClass : CharacterClass.values())
+            for (ArmorType type : ArmorType.values())
+                assertEquals(characterClass.getValidArmorTypes().contains(type), characterClass.canEquip(type));
+    }
+
+    @Test
+    void canEquip_ForEveryWeaponType_MatchesValidWeaponTypes() {
+        for (CharacterClass characterClass : CharacterClass.values())
+            for (WeaponType type : WeaponType.values())
+                assertEquals(characterClass.getValidWeaponTypes().contains(type), characterClass.canEquip(type));
+    }
+
+    @Test
+    void byId_ReturnsClassWithId() {
+        for (CharacterClass characterClass : CharacterClass.values())
+            assertSame(characterClass, CharacterClass.byId(characterClass.getId()));
+    }
+
+    @Test
+    void newCharacter_ReturnsCharacterOfClass() {
+        for (CharacterClass characterClass : CharacterClass.values())
+            assertSame(characterClass, characterClass.newCharacter("Character").getCharacterClass());
+    }
+
+}
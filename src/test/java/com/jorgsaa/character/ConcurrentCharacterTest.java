@@ -0,0 +1,136 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.armor.InvalidArmorException;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentCharacterTest {
+
+    private ConcurrentCharacter warrior;
+    private Armor armor;
+    private Weapon weapon;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        warrior = new ConcurrentCharacter(CharacterClass.WARRIOR, "Warrior");
+        armor = new Armor("Steel platebody", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        weapon = new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.4d);
+    }
+
+    @Test
+    void mutations_MatchCharacter() {
+        // Arrange
+        Warrior expected = new Warrior("Warrior");
+
+        // Act
+        expected.equip(armor);
+        expected.levelUp();
+        expected.equip(weapon);
+        expected.setLevel(12);
+
+        warrior.equip(armor);
+        warrior.levelUp();
+        warrior.equip(weapon);
+        warrior.setLevel(12);
+
+        // Assert
+        assertEquals(expected.getTotalPrimaryAttributes(), warrior.getTotalPrimaryAttributes());
+        assertEquals(expected.getEquippedArmorAttributes(), warrior.getEquippedArmorAttributes());
+        assertEquals(expected.dpsAsDouble(), warrior.dpsAsDouble());
+        assertEquals(expected.toString(), warrior.toString());
+    }
+
+    @Test
+    void equip_WhenArmorTypeIncompatible_ThrowsExceptionAndKeepsSnapshot() {
+        // Arrange
+        ConcurrentCharacter mage = new ConcurrentCharacter(CharacterClass.MAGE, "Mage");
+        ConcurrentCharacter.Snapshot before = mage.snapshot();
+
+        // Assert
+        assertThrows(InvalidArmorException.class, () -> mage.equip(armor));
+        assertEquals(EquipResult.CLASS_INCOMPATIBLE, mage.tryEquip(armor));
+        assertSame(before, mage.snapshot());
+    }
+
+    @Test
+    void levelUp_WhenConcurrentWriters_AppliesEveryUpdate() throws InterruptedException {
+        // Arrange
+        int threads = 8;
+        int updates = 10_000;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            writers.add(new Thread(() -> {
+                awaitQuietly(start);
+                for (int j = 0; j < updates; j++)
+                    warrior.levelUp();
+            }));
+        }
+
+        // Act
+        writers.forEach(Thread::start);
+        start.countDown();
+        for (Thread writer : writers)
+            writer.join();
+
+        // Assert
+        assertEquals(1 + threads * updates, warrior.getLevel());
+    }
+
+    @Test
+    void snapshot_WhenReadDuringWrites_IsConsistent() throws InterruptedException {
+        // Arrange
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            while (running.get()) {
+                ConcurrentCharacter.Snapshot snapshot = warrior.snapshot();
+                Warrior expected = new Warrior("Warrior");
+                expected.setLevel(snapshot.getLevel());
+                for (Slot slot : Slot.values())
+                    if (snapshot.getEquipment(slot) != null)
+                        expected.restoreEquipment(snapshot.getEquipment(slot));
+                if (expected.dpsAsDouble() != snapshot.dpsAsDouble())
+                    failure.set("Torn snapshot at level " + snapshot.getLevel());
+            }
+        });
+
+        // Act
+        reader.start();
+        for (int i = 0; i < 5_000; i++) {
+            warrior.setLevel(1 + i % 40);
+            warrior.equip(i % 2 == 0 ? armor : new Armor("Helm " + i, 1, Slot.HEAD, ArmorType.MAIL, PrimaryAttribute.of(i % 9, 1, 1)));
+            warrior.equip(weapon);
+        }
+        running.set(false);
+        reader.join();
+
+        // Assert
+        assertNull(failure.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
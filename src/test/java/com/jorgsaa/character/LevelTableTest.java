@@ -0,0 +1,56 @@
+package com.jorgsaa.character;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LevelTableTest {
+
+    @Test
+    void attributes_ForEveryClassAndLevel_MatchFormula() {
+        // Arrange
+        int[] levels = {Integer.MIN_VALUE, -3, 0, 1, 2, 50, 100, 101, 1000,
+                LevelTable.MAX_TABULATED_LEVEL, LevelTable.MAX_TABULATED_LEVEL + 1, Integer.MAX_VALUE};
+
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            LevelTable table = characterClass.getLevelTable();
+            for (int level : levels) {
+                PrimaryAttribute gained = characterClass.getGainPerLevel().multiply(level - 1);
+                PrimaryAttribute expected = characterClass.getBasePrimaryAttributes().add(gained);
+
+                // Act
+                PrimaryAttribute actual = characterClass.getLevelPrimaryAttributes(level);
+
+                // Assert
+                assertEquals(expected, actual);
+                assertEquals(gained, characterClass.getGainedPrimaryAttributes(level));
+                assertEquals(expected, PrimaryAttribute.of(table.strength(level), table.dexterity(level), table.intelligence(level)));
+            }
+        }
+    }
+
+    @Test
+    void attributes_WhenLevelAboveCap_ExtendsTable() {
+        // Arrange
+        LevelTable table = new LevelTable(PrimaryAttribute.of(1, 2, 3), PrimaryAttribute.of(1, 1, 1), 10);
+
+        // Act
+        PrimaryAttribute attributes = table.attributes(15);
+
+        // Assert
+        assertEquals(PrimaryAttribute.of(15, 16, 17), attributes);
+        assertEquals(20, table.getTabulatedLevels());
+    }
+
+    @Test
+    void gained_WhenLevelIsTabulated_ReturnsSharedInstance() {
+        // Act
+        PrimaryAttribute first = CharacterClass.MAGE.getGainedPrimaryAttributes(42);
+        PrimaryAttribute second = CharacterClass.MAGE.getGainedPrimaryAttributes(42);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+}
@@ -1,7 +1,9 @@
 package com.jorgsaa.character;
 
 import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.EquipResult;
 import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemExceptionType;
 import com.jorgsaa.item.Slot;
 import com.jorgsaa.item.armor.Armor;
 import com.jorgsaa.item.armor.ArmorType;
@@ -17,6 +19,7 @@ import java.util.List;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class MageTest {
@@ -332,4 +335,78 @@ class MageTest {
         assertEquals(weapon.getDPS() * (1 + 0.01d * attribs.intelligence()), dps);
     }
 
+    @Test
+    void tryEquip_WhenArmorValid_EquipsArmor() {
+        // Arrange
+        Armor armor = new Armor("Wizard robe", 0, Slot.BODY, ArmorType.CLOTH, PrimaryAttribute.of(0, 2, 8));
+
+        // Act
+        EquipResult result = mage.tryEquip(armor);
+
+        // Assert
+        assertEquals(EquipResult.EQUIPPED, result);
+        assertEquals(armor, mage.getEquipment(Slot.BODY));
+    }
+
+    @Test
+    void tryEquip_WhenWeaponTypeIncompatible_ReturnsReasonWithoutEquipping() {
+        // Arrange
+        Weapon weapon = new Weapon("Steel axe", 0, WeaponType.AXE, 10d, 1.4d);
+
+        // Act
+        EquipResult result = mage.tryEquip(weapon);
+
+        // Assert
+        assertEquals(ItemExceptionType.CLASS_INCOMPATIBLE, result.getExceptionType());
+        assertNull(mage.getEquipment(Slot.WEAPON));
+    }
+
+    @Test
+    void canEquip_WhenCharacterLevelInsufficient_ReturnsLevelInsufficient() {
+        // Arrange
+        Armor armor = new Armor("Dark wizard robe", 50, Slot.BODY, ArmorType.CLOTH, PrimaryAttribute.of(0, 20, 100));
+
+        // Assert
+        assertEquals(EquipResult.LEVEL_INSUFFICIENT, mage.canEquip(armor));
+    }
+
+    @Test
+    void equip_WhenRejected_ExceptionMessageDescribesCharacterAndItem() {
+        // Arrange
+        Armor armor = new Armor("Steel platebody", 0, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+
+        // Act
+        InvalidArmorException exception = assertThrows(InvalidArmorException.class, () -> mage.equip(armor));
+
+        // Assert
+        assertEquals(ItemExceptionType.CLASS_INCOMPATIBLE, exception.getType());
+        assertThat(exception.getMessage(), containsString(ORIGINAL_NAME));
+        assertThat(exception.getMessage(), containsString(armor.toString()));
+    }
+
+    @Test
+    void equip_WhenCharacterChangesAfterRejection_MessageDescribesRejectedState() {
+        // Arrange
+        Armor armor = new Armor("Steel platebody", 0, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        InvalidArmorException exception = assertThrows(InvalidArmorException.class, () -> mage.equip(armor));
+
+        // Act
+        mage.setLevel(20);
+
+        // Assert
+        assertThat(exception.getMessage(), containsString(ORIGINAL_NAME + " (Level 1)"));
+    }
+
+    @Test
+    void invalidArmorException_WhenStackTraceDisabled_HasNoStackTrace() {
+        // Arrange
+        Armor armor = new Armor("Steel platebody", 0, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+
+        // Act
+        InvalidArmorException exception = new InvalidArmorException(ItemExceptionType.CLASS_INCOMPATIBLE, mage, armor, false);
+
+        // Assert
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
 }
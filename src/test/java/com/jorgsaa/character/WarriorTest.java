@@ -331,4 +331,47 @@ class WarriorTest {
         assertEquals(weapon.getDPS() * (1 + 0.01d * attribs.strength()), dps);
     }
 
+    @Test
+    void getTotalPrimaryAttributes_WhenArmorReplaced_ExcludesPreviousArmor() {
+        // Arrange
+        Armor first = new Armor("Steel platebody", 0, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        Armor second = new Armor("Bronze chainbody", 0, Slot.BODY, ArmorType.MAIL, PrimaryAttribute.of(2, 3, 0));
+        warrior.getTotalPrimaryAttributes();
+
+        // Act
+        warrior.equip(first);
+        warrior.equip(second);
+
+        // Assert
+        assertEquals(second.getAttributes(), warrior.getEquippedArmorAttributes());
+        assertEquals(
+                warrior.getBasePrimaryAttributes().add(second.getAttributes()),
+                warrior.getTotalPrimaryAttributes()
+        );
+    }
+
+    @Test
+    void getDPS_AfterLevelChanges_MatchesFreshCharacter() {
+        // Arrange
+        Armor armor = new Armor("Steel platebody", 0, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        Weapon weapon = new Weapon("Steel axe", 0, WeaponType.AXE, 10d, 1.4d);
+        warrior.equip(armor);
+        warrior.equip(weapon);
+        warrior.getDPS();
+
+        // Act
+        warrior.setLevel(20);
+        warrior.levelUp();
+        warrior.setLevel(5);
+
+        Warrior fresh = new Warrior(ORIGINAL_NAME);
+        fresh.setLevel(5);
+        fresh.equip(armor);
+        fresh.equip(weapon);
+
+        // Assert
+        assertEquals(fresh.getTotalPrimaryAttributes(), warrior.getTotalPrimaryAttributes());
+        assertEquals(fresh.getDPS(), warrior.getDPS());
+    }
+
 }
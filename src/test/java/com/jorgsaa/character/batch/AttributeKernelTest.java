@@ -0,0 +1,112 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttributeKernelTest {
+
+    // Not a multiple of any vector length, so the scalar tail is exercised
+    private static final int POPULATION = 1003;
+
+    private AttributeColumns levels;
+    private AttributeColumns head;
+    private AttributeColumns body;
+    private AttributeColumns legs;
+    private int[] classIds;
+    private Random random;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        random = new Random(21);
+        levels = new AttributeColumns(POPULATION);
+        head = new AttributeColumns(POPULATION);
+        body = new AttributeColumns(POPULATION);
+        legs = new AttributeColumns(POPULATION);
+        classIds = new int[POPULATION];
+        for (int i = 0; i < POPULATION; i++) {
+            CharacterClass characterClass = CharacterClass.byId(random.nextInt(CharacterClass.values().length));
+            classIds[i] = characterClass.getId();
+            levels.set(i, characterClass.getLevelPrimaryAttributes(1 + random.nextInt(100)));
+            head.set(i, randomAttributes());
+            body.set(i, randomAttributes());
+            legs.set(i, randomAttributes());
+        }
+        levels.set(0, PrimaryAttribute.of(Integer.MAX_VALUE, Integer.MIN_VALUE, 0));
+    }
+
+    @Test
+    void best_WhenVectorModulePresent_ReturnsVectorKernel() {
+        // Act
+        AttributeKernel kernel = AttributeKernel.best();
+
+        // Assert
+        assertEquals("vector", kernel.getName());
+    }
+
+    @Test
+    void sum_MatchesPrimaryAttributeAdd() {
+        for (AttributeKernel kernel : new AttributeKernel[]{AttributeKernel.scalar(), AttributeKernel.best()}) {
+            // Arrange
+            AttributeColumns totals = new AttributeColumns(POPULATION);
+
+            // Act
+            kernel.sum(new AttributeColumns[]{levels, head, body, legs}, totals, POPULATION);
+
+            // Assert
+            for (int i = 0; i < POPULATION; i++) {
+                PrimaryAttribute expected = levels.get(i).add(head.get(i)).add(body.get(i)).add(legs.get(i));
+                assertEquals(expected, totals.get(i), kernel.getName());
+            }
+        }
+    }
+
+    @Test
+    void damageMultipliers_MatchCharacterDps() {
+        for (AttributeKernel kernel : new AttributeKernel[]{AttributeKernel.scalar(), AttributeKernel.best()}) {
+            // Arrange
+            Character[] characters = new Character[POPULATION];
+            AttributeColumns totals = new AttributeColumns(POPULATION);
+            double[] multipliers = new double[POPULATION];
+            random = new Random(21);
+            for (int i = 0; i < POPULATION; i++) {
+                CharacterClass characterClass = CharacterClass.byId(classIds[i]);
+                characters[i] = characterClass.newCharacter("Character " + i);
+                characters[i].setLevel(1 + random.nextInt(100));
+                characters[i].equip(new Armor("Armor", 1, Slot.BODY, characterClass.getValidArmorTypes().get(0), randomAttributes()));
+                totals.set(i, characters[i].getTotalPrimaryAttributes());
+            }
+
+            // Act
+            kernel.damageMultipliers(totals, classIds, multipliers, POPULATION);
+
+            // Assert
+            for (int i = 0; i < POPULATION; i++)
+                assertEquals(characters[i].dpsAsDouble(), multipliers[i], kernel.getName());
+        }
+    }
+
+    @Test
+    void damageMultipliers_WhenClassIdUnknown_ThrowsException() {
+        // Arrange
+        classIds[5] = CharacterClass.values().length;
+
+        // Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> AttributeKernel.best().damageMultipliers(levels, classIds, new double[POPULATION], POPULATION));
+    }
+
+    private PrimaryAttribute randomAttributes() {
+        return PrimaryAttribute.of(random.nextInt(200) - 50, random.nextInt(200) - 50, random.nextInt(200) - 50);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.jorgsaa.character.batch;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.store.CharacterStore;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.weapon.Weapon;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BatchEvaluatorTest {
+
+    private static final int ROSTER_SIZE = 1000;
+
+    private BatchEvaluator evaluator;
+    private List<Character> roster;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        evaluator = new BatchEvaluator(4, 16);
+        roster = new ArrayList<>();
+        CharacterClass[] classes = CharacterClass.values();
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            CharacterClass characterClass = classes[i % classes.length];
+            Character character = characterClass.newCharacter("Character " + i);
+            character.setLevel(1 + i % 60);
+            character.equip(new Armor("Armor", 1, Slot.BODY, characterClass.getValidArmorTypes().get(0), PrimaryAttribute.of(i % 7, i % 5, i % 3)));
+            character.equip(new Weapon("Weapon", 1, characterClass.getValidWeaponTypes().get(0), 1 + i % 11, 1.1));
+            roster.add(character);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        evaluator.close();
+    }
+
+    @Test
+    void evaluateDPS_ReturnsDPSInRosterOrder() {
+        // Act
+        double[] dps = evaluator.evaluateDPS(roster);
+
+        // Assert
+        for (int i = 0; i < ROSTER_SIZE; i++)
+            assertEquals(roster.get(i).dpsAsDouble(), dps[i]);
+    }
+
+    @Test
+    void evaluateDPS_WhenNotRandomAccess_ReturnsDPSInRosterOrder() {
+        // Act
+        double[] dps = evaluator.evaluateDPS(new LinkedList<>(roster));
+
+        // Assert
+        assertArrayEquals(evaluator.evaluateDPS(roster), dps);
+    }
+
+    @Test
+    void evaluateTotalPrimaryAttributes_ReturnsAttributesInRosterOrder() {
+        // Act
+        int[] attributes = evaluator.evaluateTotalPrimaryAttributes(roster);
+
+        // Assert
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            PrimaryAttribute expected = roster.get(i).getTotalPrimaryAttributes();
+            assertEquals(expected, PrimaryAttribute.of(attributes[i * 3], attributes[i * 3 + 1], attributes[i * 3 + 2]));
+        }
+    }
+
+    @Test
+    void evaluate_WhenStore_MatchesRoster() {
+        // Arrange
+        CharacterStore store = new CharacterStore(new ItemRegistry());
+        roster.forEach(store::add);
+        double[] dps = new double[ROSTER_SIZE];
+        int[] attributes = new int[ROSTER_SIZE * 3];
+
+        // Act
+        evaluator.evaluateDPS(store, dps);
+        evaluator.evaluateTotalPrimaryAttributes(store, attributes);
+
+        // Assert
+        assertArrayEquals(evaluator.evaluateDPS(roster), dps);
+        assertArrayEquals(evaluator.evaluateTotalPrimaryAttributes(roster), attributes);
+    }
+
+    @Test
+    void evaluateDPS_WhenOutputTooShort_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> evaluator.evaluateDPS(roster, new double[ROSTER_SIZE - 1]));
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.jorgsaa.character.store;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.armor.InvalidArmorException;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterStoreTest {
+
+    private CharacterStore store;
+    private Armor armor;
+    private Weapon weapon;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        store = new CharacterStore(new ItemRegistry(), 1);
+        armor = new Armor("Steel platebody", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        weapon = new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.4d);
+    }
+
+    @Test
+    void add_WhenCharacter_ViewMatchesCharacter() {
+        // Arrange
+        Warrior warrior = new Warrior("Warrior");
+        warrior.setLevel(7);
+        warrior.equip(armor);
+        warrior.equip(weapon);
+
+        // Act
+        CharacterStore.View view = store.view(store.add(warrior));
+
+        // Assert
+        assertEquals(warrior.getName(), view.getName());
+        assertEquals(warrior.getLevel(), view.getLevel());
+        assertEquals(warrior.getTotalPrimaryAttributes(), view.getTotalPrimaryAttributes());
+        assertEquals(warrior.getEquippedArmorAttributes(), view.getEquippedArmorAttributes());
+        assertEquals(warrior.getDPS(), view.getDPS());
+        assertSame(armor, view.getEquipment(Slot.BODY));
+        assertSame(weapon, view.getEquipment(Slot.WEAPON));
+    }
+
+    @Test
+    void mutations_ForEveryClass_MatchCharacter() {
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            // Arrange
+            Character character = characterClass.newCharacter("Character");
+            int index = store.add(characterClass, "Character");
+            Armor classArmor = new Armor("Armor", 1, Slot.HEAD, characterClass.getValidArmorTypes().get(0), PrimaryAttribute.of(3, 4, 5));
+            Weapon classWeapon = new Weapon("Weapon", 1, characterClass.getValidWeaponTypes().get(0), 7d, 1.3d);
+
+            // Act
+            character.levelUp();
+            store.levelUp(index);
+            character.equip(classArmor);
+            store.equip(index, classArmor);
+            character.equip(classWeapon);
+            store.equip(index, classWeapon);
+            character.setLevel(30);
+            store.setLevel(index, 30);
+
+            // Assert
+            CharacterStore.View view = store.view(index);
+            assertEquals(characterClass, view.getCharacterClass());
+            assertEquals(character.getTotalPrimaryAttributes(), view.getTotalPrimaryAttributes());
+            assertEquals(character.getGainedPrimaryAttributes(), view.getGainedPrimaryAttributes());
+            assertEquals(character.dpsAsDouble(), view.dpsAsDouble());
+        }
+    }
+
+    @Test
+    void equip_WhenArmorReplaced_ExcludesPreviousArmor() {
+        // Arrange
+        int index = store.add(CharacterClass.WARRIOR, "Warrior");
+        Armor replacement = new Armor("Bronze chainbody", 1, Slot.BODY, ArmorType.MAIL, PrimaryAttribute.of(1, 2, 0));
+
+        // Act
+        store.equip(index, armor);
+        store.equip(index, replacement);
+
+        // Assert
+        assertEquals(replacement.getAttributes(), store.view(index).getEquippedArmorAttributes());
+    }
+
+    @Test
+    void equip_WhenArmorTypeIncompatible_ThrowsException() {
+        // Arrange
+        int index = store.add(CharacterClass.MAGE, "Mage");
+
+        // Assert
+        assertThrows(InvalidArmorException.class, () -> store.equip(index, armor));
+    }
+
+    @Test
+    void toCharacter_ReturnsEquivalentCharacter() {
+        // Arrange
+        int index = store.add(CharacterClass.WARRIOR, "Warrior");
+        store.equip(index, weapon);
+        store.setLevel(index, 12);
+
+        // Act
+        Character character = store.toCharacter(index);
+
+        // Assert
+        assertInstanceOf(Warrior.class, character);
+        assertEquals(12, character.getLevel());
+        assertEquals(store.getDPS(index), character.dpsAsDouble());
+    }
+
+    @Test
+    void view_WhenIndexOutOfBounds_ThrowsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> store.view(0));
+    }
+
+}
@@ -0,0 +1,193 @@
+package com.jorgsaa.codec;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterCodecTest {
+
+    @Test
+    void decode_ForEveryClass_RoundTripsCharacter() {
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            // Arrange
+            Character character = characterClass.newCharacter("Åsa 🗡 " + characterClass);
+            character.setLevel(42);
+            character.equip(new Armor("Helm", 3, Slot.HEAD, characterClass.getValidArmorTypes().get(0), PrimaryAttribute.of(-3, 400, 70000)));
+            character.equip(new Weapon("Weapon", 40, characterClass.getValidWeaponTypes().get(0), 12.5, 1.75));
+            character.setLevel(2);
+            ByteBuffer buffer = ByteBuffer.allocate(CharacterCodec.encodedSize(character));
+
+            // Act
+            CharacterCodec.encode(character, buffer);
+            buffer.flip();
+            Character decoded = CharacterCodec.decode(buffer);
+
+            // Assert
+            assertFalse(buffer.hasRemaining());
+            assertEquals(character.getCharacterClass(), decoded.getCharacterClass());
+            assertEquals(character.getName(), decoded.getName());
+            assertEquals(character.getLevel(), decoded.getLevel());
+            assertEquals(character.getTotalPrimaryAttributes(), decoded.getTotalPrimaryAttributes());
+            assertEquals(character.getDPS(), decoded.getDPS());
+            assertEquals(character.toString(), decoded.toString());
+        }
+    }
+
+    @Test
+    void decode_WhenNoEquipment_RoundTripsCharacter() {
+        // Arrange
+        Character character = CharacterClass.MAGE.newCharacter("Mage");
+        ByteBuffer buffer = ByteBuffer.allocateDirect(CharacterCodec.encodedSize(character));
+
+        // Act
+        CharacterCodec.encode(character, buffer);
+        buffer.flip();
+        Character decoded = CharacterCodec.decode(buffer);
+
+        // Assert
+        for (Slot slot : Slot.values())
+            assertNull(decoded.getEquipment(slot));
+        assertEquals(character.toString(), decoded.toString());
+    }
+
+    @Test
+    void decode_WhenItem_RoundTripsItem() {
+        // Arrange
+        Item armor = new Armor("Steel platebody", 10, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 2, 2));
+        Item weapon = new Weapon("Steel axe", 10, WeaponType.AXE, 10d, 1.3d);
+        ByteBuffer buffer = ByteBuffer.allocate(ItemCodec.encodedSize(armor) + ItemCodec.encodedSize(weapon));
+
+        // Act
+        ItemCodec.encode(armor, buffer);
+        ItemCodec.encode(weapon, buffer);
+        buffer.flip();
+        Armor decodedArmor = (Armor) ItemCodec.decode(buffer);
+        Weapon decodedWeapon = (Weapon) ItemCodec.decode(buffer);
+
+        // Assert
+        assertEquals(armor.toString(), decodedArmor.toString());
+        assertEquals(ArmorType.PLATE, decodedArmor.getType());
+        assertEquals(Slot.BODY, decodedArmor.getSlot());
+        assertEquals(weapon.toString(), decodedWeapon.toString());
+        assertEquals(WeaponType.AXE, decodedWeapon.getType());
+    }
+
+    @Test
+    void decode_WhenItemIds_RoundTripsCharacterWithSharedItems() {
+        // Arrange
+        ItemRegistry items = new ItemRegistry();
+        Weapon axe = new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.3d);
+        Character character = CharacterClass.WARRIOR.newCharacter("Warrior");
+        character.equip(axe);
+        ByteBuffer buffer = ByteBuffer.allocate(CharacterCodec.encodedSize(character, items));
+
+        // Act
+        CharacterCodec.encode(character, items, buffer);
+        buffer.flip();
+        Character decoded = CharacterCodec.decode(buffer, items);
+
+        // Assert
+        assertSame(axe, decoded.getEquipment(Slot.WEAPON));
+        assertThat(buffer.limit(), lessThan(CharacterCodec.encodedSize(character)));
+    }
+
+    @Test
+    void decode_WhenRegistryGiven_InternsInlineItems() {
+        // Arrange
+        ItemRegistry items = new ItemRegistry();
+        Weapon axe = items.intern(new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.3d));
+        Character character = CharacterClass.WARRIOR.newCharacter("Warrior");
+        character.equip(new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.3d));
+        ByteBuffer buffer = ByteBuffer.allocate(CharacterCodec.encodedSize(character));
+
+        // Act
+        CharacterCodec.encode(character, buffer);
+        buffer.flip();
+        Character decoded = CharacterCodec.decode(buffer, items);
+
+        // Assert
+        assertSame(axe, decoded.getEquipment(Slot.WEAPON));
+    }
+
+    @Test
+    void decode_WhenVersionUnsupported_ThrowsException() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{99, 0});
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> CharacterCodec.decode(buffer));
+    }
+
+    @Test
+    void decode_WhenClassIdUnknown_ThrowsExceptionNamingIdAndOffset() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{CharacterCodec.VERSION, 99, 0, 2, 0});
+
+        // Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> CharacterCodec.decode(buffer));
+        assertEquals("Unknown character class id 99 at offset 1", exception.getMessage());
+    }
+
+    @Test
+    void decode_WhenArmorSlotUnknown_ThrowsExceptionNamingIdAndOffset() {
+        // Arrange
+        Item armor = new Armor("Steel platebody", 10, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 2, 2));
+        ByteBuffer buffer = ByteBuffer.allocate(ItemCodec.encodedSize(armor));
+        ItemCodec.encode(armor, buffer);
+        int slotOffset = 2 + VarInt.stringSize(armor.getName()) + VarInt.signedSize(armor.getRequiredLevel());
+        buffer.put(slotOffset, (byte) -1).flip();
+
+        // Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> ItemCodec.decode(buffer));
+        assertEquals("Unknown slot id -1 at offset " + slotOffset, exception.getMessage());
+    }
+
+    @Test
+    void encodedSize_WhenItemsUnknown_DoesNotRegisterThem() {
+        // Arrange
+        ItemRegistry items = new ItemRegistry();
+        Character character = CharacterClass.WARRIOR.newCharacter("Warrior");
+        character.equip(new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.3d));
+
+        // Act
+        int size = CharacterCodec.encodedSize(character, items);
+
+        // Assert
+        assertEquals(0, items.size());
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        CharacterCodec.encode(character, items, buffer);
+        assertThat(buffer.position(), lessThanOrEqualTo(size));
+    }
+
+    @Test
+    void varInt_WhenSigned_RoundTripsExtremes() {
+        // Arrange
+        int[] values = {0, 1, -1, 63, -64, 64, 300, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * 5);
+
+        // Act
+        for (int value : values)
+            VarInt.putSigned(buffer, value);
+        buffer.flip();
+
+        // Assert
+        for (int value : values)
+            assertEquals(value, VarInt.getSigned(buffer));
+    }
+
+}
@@ -0,0 +1,174 @@
+package com.jorgsaa.combat;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Mage;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CombatSimulatorTest {
+
+    private static final long SEED = 42;
+
+    private CombatSimulator simulator;
+    private Combatant warrior;
+    private Combatant mage;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        simulator = new CombatSimulator(SEED, CombatRules.DEFAULT, 4, 64);
+        Character warriorCharacter = new Warrior("Warrior");
+        warriorCharacter.equip(new Weapon("Common axe", 1, WeaponType.AXE, 7d, 1.1d));
+        Character mageCharacter = new Mage("Mage");
+        mageCharacter.equip(new Weapon("Common staff", 1, WeaponType.STAFF, 5d, 1.5d));
+        warrior = Combatant.of(warriorCharacter, 100);
+        mage = Combatant.of(mageCharacter, 80);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        simulator.close();
+    }
+
+    @Test
+    void of_WhenWeaponEquipped_DpsMatchesCharacterDps() {
+        // Arrange
+        Character character = new Warrior("Warrior");
+        character.equip(new Weapon("Common axe", 1, WeaponType.AXE, 7d, 1.1d));
+
+        // Act
+        Combatant combatant = Combatant.of(character, 100);
+
+        // Assert
+        assertEquals(character.dpsAsDouble(), combatant.dps(), 1e-12);
+    }
+
+    @Test
+    void of_WhenUnarmed_DpsMatchesCharacterDps() {
+        // Arrange
+        Character character = new Mage("Mage");
+
+        // Act
+        Combatant combatant = Combatant.of(character, 100);
+
+        // Assert
+        assertEquals(character.dpsAsDouble(), combatant.dps(), 1e-12);
+    }
+
+    @Test
+    void of_WhenWeaponHasNoDps_DpsMatchesCharacterDps() {
+        // Arrange
+        Character character = new Warrior("Warrior");
+        character.equip(new Weapon("Broken axe", 1, WeaponType.AXE, 0d, 1.1d));
+
+        // Act
+        Combatant combatant = Combatant.of(character, 100);
+
+        // Assert
+        assertEquals(character.dpsAsDouble(), combatant.dps(), 1e-12);
+    }
+
+    @Test
+    void fight_WhenCalledTwiceWithSameIndex_ReturnsSameResult() {
+        // Act
+        FightResult first = simulator.fight(warrior, mage, 7);
+        FightResult second = simulator.fight(warrior, mage, 7);
+
+        // Assert
+        assertEquals(first, second);
+    }
+
+    @Test
+    void fight_WhenTargetIsDummy_AttackerWins() {
+        // Arrange
+        Combatant dummy = Combatant.dummy("Dummy", 50);
+
+        // Act
+        FightResult result = simulator.fight(warrior, dummy, 0);
+
+        // Assert
+        assertEquals(Outcome.FIRST_WINS, result.outcome());
+        assertTrue(result.duration() > 0);
+    }
+
+    @Test
+    void fight_WhenNeitherSideAttacks_IsDrawAtMaxDuration() {
+        // Act
+        FightResult result = simulator.fight(Combatant.dummy("A", 1), Combatant.dummy("B", 1), 0);
+
+        // Assert
+        assertEquals(new FightResult(Outcome.DRAW, CombatRules.DEFAULT.maxDuration(), 0), result);
+    }
+
+    @Test
+    void fight_WhenNoVariance_DeadlineFollowsAttackSpeed() {
+        // Arrange
+        CombatSimulator exact = new CombatSimulator(SEED, new CombatRules(0, 300), 1, 64);
+        Combatant attacker = new Combatant("Attacker", 10, 2, 1);
+        Combatant dummy = Combatant.dummy("Dummy", 100);
+
+        // Act
+        FightResult result = exact.fight(attacker, dummy, 3);
+        exact.close();
+
+        // Assert
+        assertEquals(Outcome.FIRST_WINS, result.outcome());
+        assertEquals(10, result.attacks());
+        assertTrue(result.duration() >= 4.5 && result.duration() < 5);
+    }
+
+    @Test
+    void simulate_WhenParallelismAndChunkingDiffer_CountsAreIdentical() {
+        // Arrange
+        CombatSimulator sequential = new CombatSimulator(SEED, CombatRules.DEFAULT, 1, 1_000_000);
+
+        // Act
+        MatchupResult parallel = simulator.simulate(warrior, mage, 10_000);
+        MatchupResult single = sequential.simulate(warrior, mage, 10_000);
+        sequential.close();
+
+        // Assert
+        assertEquals(10_000, parallel.fights());
+        assertEquals(single.firstWins(), parallel.firstWins());
+        assertEquals(single.secondWins(), parallel.secondWins());
+        assertEquals(single.draws(), parallel.draws());
+        assertEquals(single.meanDuration(), parallel.meanDuration(), 1e-9);
+    }
+
+    @Test
+    void simulate_WhenSeedsDiffer_ResultsDiffer() {
+        // Arrange
+        CombatSimulator other = new CombatSimulator(SEED + 1, CombatRules.DEFAULT, 4, 64);
+
+        // Act
+        MatchupResult first = simulator.simulate(warrior, mage, 10_000);
+        MatchupResult second = other.simulate(warrior, mage, 10_000);
+        other.close();
+
+        // Assert
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void roundRobin_FillsEveryPairAndLeavesDiagonalEmpty() {
+        // Act
+        MatchupResult[][] results = simulator.roundRobin(List.of(warrior, mage, Combatant.dummy("Dummy", 60)), 100);
+
+        // Assert
+        for (int i = 0; i < 3; i++) {
+            for (int j = 0; j < 3; j++)
+                assertEquals(i == j ? 0 : 100, results[i][j].fights());
+        }
+        assertEquals(100, results[0][2].firstWins());
+        assertEquals(100, results[2][1].secondWins());
+    }
+
+}
@@ -0,0 +1,133 @@
+package com.jorgsaa.event;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.metrics.CharacterMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SnapshotTest {
+
+    private EventLog log;
+    private ItemRegistry items;
+    private List<Character> roster;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        log = new EventLog(16);
+        items = new ItemRegistry();
+        roster = new ArrayList<>();
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            Character character = characterClass.newCharacter(characterClass.name());
+            EventRecorder.attach(character, roster.size(), log, items);
+            roster.add(character);
+        }
+    }
+
+    @Test
+    void restore_WhenSnapshotTakenMidway_MatchesLiveRoster() {
+        // Arrange
+        mutate(0, 3);
+        Snapshot snapshot = Snapshot.take(roster, items, log);
+        mutate(3, 8);
+
+        // Act
+        List<Character> restored = snapshot.restore(log, items);
+
+        // Assert
+        assertRosterEquals(roster, restored);
+    }
+
+    @Test
+    void restore_WhenSnapshotTakenBeforeEvents_ReplaysWholeLog() {
+        // Arrange
+        List<Character> initial = new ArrayList<>();
+        for (Character character : roster)
+            initial.add(character.getCharacterClass().newCharacter(character.getName()));
+        Snapshot snapshot = Snapshot.take(initial, items, new EventLog());
+
+        // Act
+        mutate(0, 8);
+        List<Character> restored = snapshot.restore(log, items);
+
+        // Assert
+        assertRosterEquals(roster, restored);
+        assertEquals(log.sequence(), EventReplayer.replay(log.events(0), initial, items));
+    }
+
+    @Test
+    void replay_WhenMetricsEnabled_DoesNotCountLevelChanges() {
+        // Arrange
+        List<Character> initial = new ArrayList<>();
+        for (Character character : roster)
+            initial.add(character.getCharacterClass().newCharacter(character.getName()));
+        mutate(0, 8);
+        CharacterMetrics.reset();
+        CharacterMetrics.setEnabled(true);
+
+        // Act
+        try {
+            EventReplayer.replay(log.events(0), initial, items);
+        } finally {
+            CharacterMetrics.setEnabled(false);
+        }
+
+        // Assert
+        assertRosterEquals(roster, initial);
+        assertEquals(0, CharacterMetrics.snapshot().levelUps());
+        assertEquals(0, CharacterMetrics.snapshot().levelChanges());
+        CharacterMetrics.reset();
+    }
+
+    @Test
+    void replay_WhenTagUnknown_ThrowsException() {
+        // Arrange
+        EventLog corrupt = EventLog.of(ByteBuffer.wrap(new byte[]{0, 0x7F}), 1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> EventReplayer.replay(corrupt.events(0), roster, items));
+    }
+
+    @Test
+    void replay_WhenTagIsPastLastSlot_ThrowsException() {
+        // Arrange
+        EventLog corrupt = EventLog.of(ByteBuffer.wrap(new byte[]{0, (byte) (EventLog.EQUIP + EventLog.SLOT_COUNT), 0}), 1);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> EventReplayer.replay(corrupt.events(0), roster, items));
+    }
+
+    private void mutate(int fromRound, int toRound) {
+        for (int round = fromRound; round < toRound; round++) {
+            for (Character character : roster) {
+                CharacterClass characterClass = character.getCharacterClass();
+                character.levelUp();
+                character.equip(new Armor("Armor " + round, 1, Slot.values()[round % 3],
+                        characterClass.getValidArmorTypes().get(0), PrimaryAttribute.of(round, round + 1, round + 2)));
+                character.equip(new Weapon("Weapon " + round, 1, characterClass.getValidWeaponTypes().get(0), round + 1, 1.2));
+                if (round % 3 == 0)
+                    character.setLevel(character.getLevel() + 5);
+            }
+        }
+    }
+
+    private static void assertRosterEquals(List<Character> expected, List<Character> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++)
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+    }
+
+}
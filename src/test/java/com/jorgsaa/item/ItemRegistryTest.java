@@ -0,0 +1,76 @@
+package com.jorgsaa.item;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ItemRegistryTest {
+
+    private ItemRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        registry = new ItemRegistry();
+    }
+
+    @Test
+    void intern_WhenEqualItems_ReturnsSharedInstance() {
+        // Arrange
+        Armor first = new Armor("Common plate helm", 10, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(3, 0, 0));
+        Armor second = new Armor("Common plate helm", 10, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(3, 0, 0));
+
+        // Act
+        Armor internedFirst = registry.intern(first);
+        Armor internedSecond = registry.intern(second);
+
+        // Assert
+        assertSame(first, internedFirst);
+        assertSame(first, internedSecond);
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void register_WhenItemsDiffer_AssignsDenseIds() {
+        // Arrange
+        Weapon axe = new Weapon("Steel axe", 10, WeaponType.AXE, 10d, 1.3d);
+        Weapon fasterAxe = new Weapon("Steel axe", 10, WeaponType.AXE, 10d, 1.4d);
+
+        // Act
+        int axeId = registry.register(axe);
+        int fasterAxeId = registry.register(fasterAxe);
+
+        // Assert
+        assertEquals(0, axeId);
+        assertEquals(1, fasterAxeId);
+        assertSame(fasterAxe, registry.get(fasterAxeId));
+        assertEquals(axeId, registry.idOf(new Weapon("Steel axe", 10, WeaponType.AXE, 10d, 1.3d)));
+    }
+
+    @Test
+    void idOf_WhenUnknown_ReturnsNoItem() {
+        assertEquals(ItemRegistry.NO_ITEM, registry.idOf(new Weapon("Wand", 1, WeaponType.WAND, 1d, 1d)));
+        assertNull(registry.get(ItemRegistry.NO_ITEM));
+    }
+
+    @Test
+    void register_WhenConcurrent_AssignsOneIdPerDistinctItem() {
+        // Act
+        IntStream.range(0, 10_000).parallel().forEach(i ->
+                registry.register(new Weapon("Weapon " + (i % 100), 1, WeaponType.BOW, 1d, 1d)));
+
+        // Assert
+        assertEquals(100, registry.size());
+        for (int id = 0; id < 100; id++)
+            assertEquals(id, registry.register(registry.get(id)));
+    }
+
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class ArmorTest {
@@ -56,4 +57,17 @@ class ArmorTest {
         );
     }
 
+    @Test
+    void equals_WhenSameValues_ReturnsTrue() {
+        Armor copy = new Armor(ORIGINAL_NAME, ORIGINAL_LEVEL, ORIGINAL_SLOT, ORIGINAL_TYPE, PrimaryAttribute.of(10, 2, 2));
+
+        assertEquals(armor, copy);
+        assertEquals(armor.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    void equals_WhenAttributesDiffer_ReturnsFalse() {
+        assertNotEquals(armor, new Armor(ORIGINAL_NAME, ORIGINAL_LEVEL, ORIGINAL_SLOT, ORIGINAL_TYPE, PrimaryAttribute.of(10, 2, 3)));
+    }
+
 }
@@ -0,0 +1,123 @@
+package com.jorgsaa.item.catalog;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.ItemExceptionType;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogImporterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void importFrom_WhenCsv_ParsesArmorAndWeapons() throws IOException {
+        // Arrange
+        String csv = """
+                kind,name,requiredLevel,slot,type,strength,dexterity,intelligence,damage,attackSpeed
+                armor,"Common plate helm, dented",10,HEAD,PLATE,3,0,0,,
+                weapon,Steel axe,5,,AXE,,,,10,1.3
+                """;
+        List<Item> items = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+
+        // Act
+        try (CatalogImporter importer = new CatalogImporter(CatalogFormat.CSV, 2, 1)) {
+            importer.importFrom(new StringReader(csv), items::add, errors::add);
+        }
+
+        // Assert
+        assertEquals(List.of(), errors);
+        assertEquals(List.of(
+                new Armor("Common plate helm, dented", 10, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(3, 0, 0)),
+                new Weapon("Steel axe", 5, WeaponType.AXE, 10d, 1.3d)
+        ), items);
+    }
+
+    @Test
+    void importFrom_WhenJsonLines_ParsesArmorAndWeapons() throws IOException {
+        // Arrange
+        String json = """
+                {"kind": "armor", "name": "Wizard \\"robe\\"", "requiredLevel": 1, "slot": "body", "type": "cloth", "intelligence": 8}
+                {"kind": "weapon", "name": "Wand", "requiredLevel": 1, "type": "WAND", "damage": 14, "attackSpeed": 0.7}
+                """;
+        List<Item> items = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+
+        // Act
+        try (CatalogImporter importer = new CatalogImporter(CatalogFormat.JSON_LINES)) {
+            importer.importFrom(new StringReader(json), items::add, errors::add);
+        }
+
+        // Assert
+        assertEquals(List.of(), errors);
+        assertEquals(List.of(
+                new Armor("Wizard \"robe\"", 1, Slot.BODY, ArmorType.CLOTH, PrimaryAttribute.of(0, 0, 8)),
+                new Weapon("Wand", 1, WeaponType.WAND, 14d, 0.7d)
+        ), items);
+    }
+
+    @Test
+    void importFrom_WhenRowsInvalid_ReportsErrorsWithLineNumbers() throws IOException {
+        // Arrange
+        String csv = """
+                armor,Plate sword,1,WEAPON,PLATE,1,1,1,,
+                weapon,Axe,ten,,AXE,,,,1,1
+                potion,Healing potion,1,,,,,,,
+                weapon,Bow,1,,BOW,,,,2,1
+                """;
+        List<Item> items = new ArrayList<>();
+        List<ImportError> errors = new ArrayList<>();
+
+        // Act
+        ImportSummary summary;
+        try (CatalogImporter importer = new CatalogImporter(CatalogFormat.CSV, 3, 2)) {
+            summary = importer.importFrom(new StringReader(csv), items::add, errors::add);
+        }
+
+        // Assert
+        assertEquals(new ImportSummary(4, 1, 3), summary);
+        assertEquals(List.of(1L, 2L, 3L), errors.stream().map(ImportError::line).toList());
+        assertEquals(ItemExceptionType.SLOT_INCOMPATIBLE, errors.get(0).type());
+    }
+
+    @Test
+    void importCatalog_WhenLargeFile_PreservesSourceOrder() throws IOException {
+        // Arrange
+        Path file = directory.resolve("catalog.csv");
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++)
+            lines.add("weapon,Weapon " + i + "," + (i % 50) + ",,SWORD,,,,2,1.5");
+        Files.write(file, lines);
+        List<ImportError> errors = new ArrayList<>();
+
+        // Act
+        ItemCatalog catalog;
+        try (CatalogImporter importer = new CatalogImporter(CatalogFormat.CSV, 4, 128)) {
+            catalog = importer.importCatalog(file, errors::add);
+        }
+
+        // Assert
+        assertTrue(errors.isEmpty());
+        assertEquals(10_000, catalog.size());
+        int i = 0;
+        for (Item item : catalog)
+            assertEquals("Weapon " + i++, item.getName());
+    }
+
+}
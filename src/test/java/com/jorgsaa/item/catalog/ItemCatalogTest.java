@@ -0,0 +1,118 @@
+package com.jorgsaa.item.catalog;
+
+import com.jorgsaa.attribute.AttributeType;
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ItemCatalogTest {
+
+    private List<Item> items;
+    private ItemCatalog catalog;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        items = new ArrayList<>();
+        Random random = new Random(7);
+        Slot[] armorSlots = {Slot.HEAD, Slot.BODY, Slot.LEGS};
+        for (int i = 0; i < 500; i++) {
+            items.add(new Armor("Armor " + i, random.nextInt(30), armorSlots[i % 3],
+                    ArmorType.values()[random.nextInt(ArmorType.values().length)],
+                    PrimaryAttribute.of(random.nextInt(10), random.nextInt(10), random.nextInt(10))));
+            items.add(new Weapon("Weapon " + i, random.nextInt(30),
+                    WeaponType.values()[random.nextInt(WeaponType.values().length)],
+                    random.nextInt(30), 0.5 + random.nextDouble()));
+        }
+        catalog = ItemCatalog.of(items);
+    }
+
+    @Test
+    void size_ReturnsNumberOfItems() {
+        assertEquals(items.size(), catalog.size());
+    }
+
+    @Test
+    void equippable_ForEveryClassAndSlot_MatchesEquipChecks() {
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            for (Slot slot : Slot.values()) {
+                // Arrange
+                List<Item> expected = new ArrayList<>();
+                for (Item item : items) {
+                    Character character = characterClass.newCharacter("Probe");
+                    character.setLevel(15);
+                    try {
+                        if (item.getSlot() == slot) {
+                            character.equip(item);
+                            expected.add(item);
+                        }
+                    } catch (RuntimeException ignored) {
+                        // Not equippable
+                    }
+                }
+
+                // Act
+                List<Item> equippable = catalog.equippable(characterClass, 15, slot);
+
+                // Assert
+                assertEquals(new HashSet<>(expected), new HashSet<>(equippable));
+                assertEquals(expected.size(), equippable.size());
+            }
+        }
+    }
+
+    @Test
+    void weaponsByDPS_ReturnsWeaponsInRangeStrongestFirst() {
+        // Act
+        List<Item> weapons = catalog.weaponsByDPS(5, 10);
+
+        // Assert
+        long expected = items.stream()
+                .filter(Weapon.class::isInstance)
+                .map(Weapon.class::cast)
+                .filter(weapon -> weapon.dpsAsDouble() >= 5 && weapon.dpsAsDouble() <= 10)
+                .count();
+        assertEquals(expected, weapons.size());
+        for (int i = 1; i < weapons.size(); i++)
+            assertThat(((Weapon) weapons.get(i - 1)).dpsAsDouble(), greaterThanOrEqualTo(((Weapon) weapons.get(i)).dpsAsDouble()));
+    }
+
+    @Test
+    void topArmorByAttribute_ReturnsStrongestArmor() {
+        // Act
+        List<Item> top = catalog.topArmorByAttribute(Slot.HEAD, AttributeType.STRENGTH, 3);
+
+        // Assert
+        int strongest = items.stream()
+                .filter(item -> item instanceof Armor && item.getSlot() == Slot.HEAD)
+                .mapToInt(item -> ((Armor) item).getAttributes().strength())
+                .max()
+                .orElseThrow();
+        assertEquals(3, top.size());
+        assertEquals(strongest, ((Armor) top.get(0)).getAttributes().strength());
+    }
+
+    @Test
+    void armorByAttribute_WhenWeaponSlot_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> catalog.armorByAttribute(Slot.WEAPON, AttributeType.STRENGTH, 0, 1));
+    }
+
+}
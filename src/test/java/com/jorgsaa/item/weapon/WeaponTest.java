@@ -26,6 +26,11 @@ class WeaponTest {
         assertEquals(ORIGINAL_DAMAGE * ORIGINAL_ATTACK_SPEED, weapon.getDPS());
     }
 
+    @Test
+    void dpsAsDouble_EqualsGetDPS() {
+        assertEquals(weapon.getDPS(), weapon.dpsAsDouble());
+    }
+
     @Test
     void getType_ReturnsOriginalType() {
         assertEquals(ORIGINAL_TYPE, weapon.getType());
@@ -0,0 +1,142 @@
+package com.jorgsaa.jfr;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.codec.CharacterCodec;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterEventsTest {
+
+    @TempDir
+    Path directory;
+
+    private Recording recording;
+    private Warrior warrior;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        recording = new Recording();
+        warrior = new Warrior("Warrior");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void equip_WhenRecording_EmitsEquipEventsWithResult() throws IOException {
+        // Arrange
+        CharacterEvents.enable(recording, Duration.ZERO, Duration.ZERO, false);
+        recording.start();
+
+        // Act
+        warrior.equip(new Weapon("Common axe", 1, WeaponType.AXE, 7d, 1.1d));
+        warrior.tryEquip(new Weapon("Common bow", 1, WeaponType.BOW, 7d, 1.1d));
+
+        // Assert
+        List<RecordedEvent> events = events(CharacterEvents.EQUIP);
+        assertEquals(2, events.size());
+        assertEquals("Common axe", events.get(0).getString("item"));
+        assertEquals("WEAPON", events.get(0).getString("slot"));
+        assertEquals("EQUIPPED", events.get(0).getString("result"));
+        assertEquals("CLASS_INCOMPATIBLE", events.get(1).getString("result"));
+        assertNull(events.get(0).getStackTrace());
+    }
+
+    @Test
+    void levelUp_WhenRecording_EmitsLevelChangeEvent() throws IOException {
+        // Arrange
+        CharacterEvents.enable(recording, Duration.ZERO, Duration.ZERO, true);
+        recording.start();
+
+        // Act
+        warrior.levelUp();
+        warrior.setLevel(10);
+
+        // Assert
+        List<RecordedEvent> events = events(CharacterEvents.LEVEL_CHANGE);
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getInt("previousLevel"));
+        assertEquals(2, events.get(0).getInt("level"));
+        assertEquals(10, events.get(1).getInt("level"));
+        assertEquals("WARRIOR", events.get(1).getString("characterClass"));
+        assertNotNull(events.get(1).getStackTrace());
+    }
+
+    @Test
+    void setLevel_WhenLevelIsRestoredOrUnchanged_EmitsNoLevelChangeEvent() throws IOException {
+        // Arrange
+        warrior.setLevel(10);
+        ByteBuffer encoded = ByteBuffer.allocate(CharacterCodec.encodedSize(warrior));
+        CharacterCodec.encode(warrior, encoded);
+        encoded.flip();
+        CharacterEvents.enable(recording, Duration.ZERO, Duration.ZERO, false);
+        recording.start();
+
+        // Act
+        Character decoded = CharacterCodec.decode(encoded);
+        decoded.setLevel(10);
+
+        // Assert
+        assertEquals(10, decoded.getLevel());
+        assertTrue(events(CharacterEvents.LEVEL_CHANGE).isEmpty());
+    }
+
+    @Test
+    void getDPS_WhenStale_EmitsRecomputeEventsAboveThreshold() throws IOException {
+        // Arrange
+        CharacterEvents.enable(recording, Duration.ZERO, Duration.ZERO, false);
+        recording.start();
+
+        // Act
+        warrior.getTotalPrimaryAttributes();
+        warrior.getDPS();
+        warrior.getDPS();
+
+        // Assert
+        List<RecordedEvent> events = events(CharacterEvents.RECOMPUTE);
+        assertEquals(List.of(RecomputeEvent.TOTAL_PRIMARY_ATTRIBUTES, RecomputeEvent.DPS),
+                events.stream().map(event -> event.getString("stat")).toList());
+    }
+
+    @Test
+    void getDPS_WhenBelowThreshold_EmitsNoRecomputeEvents() throws IOException {
+        // Arrange
+        CharacterEvents.enable(recording, Duration.ZERO, Duration.ofSeconds(1), false);
+        recording.start();
+
+        // Act
+        warrior.getDPS();
+
+        // Assert
+        assertTrue(events(CharacterEvents.RECOMPUTE).isEmpty());
+    }
+
+    private List<RecordedEvent> events(String name) throws IOException {
+        recording.stop();
+        Path file = directory.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .toList();
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.jorgsaa.leaderboard;
+
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.item.weapon.Weapon;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeaderboardTest {
+
+    private static final int ROSTER_SIZE = 500;
+
+    private Leaderboard leaderboard;
+    private List<Character> roster;
+    private Random random;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        leaderboard = new Leaderboard();
+        roster = new ArrayList<>();
+        random = new Random(19);
+        CharacterClass[] classes = CharacterClass.values();
+        for (int i = 0; i < ROSTER_SIZE; i++) {
+            Character character = classes[i % classes.length].newCharacter("Character " + i);
+            character.setLevel(1 + random.nextInt(20));
+            equipRandomWeapon(character);
+            roster.add(character);
+            leaderboard.add(character);
+        }
+    }
+
+    @Test
+    void top_ReturnsCharactersInDescendingDpsOrder() {
+        // Act
+        List<LeaderboardEntry> top = leaderboard.top(10);
+
+        // Assert
+        assertEquals(sortedByDps(roster).subList(0, 10), characters(top));
+    }
+
+    @Test
+    void top_WhenFilteredByClass_ReturnsOnlyThatClass() {
+        // Arrange
+        List<Character> rangers = roster.stream().filter(c -> c.getCharacterClass() == CharacterClass.RANGER).toList();
+
+        // Act
+        List<LeaderboardEntry> top = leaderboard.top(CharacterClass.RANGER, ROSTER_SIZE);
+
+        // Assert
+        assertEquals(rangers.size(), leaderboard.size(CharacterClass.RANGER));
+        assertEquals(sortedByDps(rangers), characters(top));
+    }
+
+    @Test
+    void rankOf_WhenCharactersChange_MatchesFullSort() {
+        // Act
+        for (int i = 0; i < 2000; i++) {
+            Character character = roster.get(random.nextInt(ROSTER_SIZE));
+            if (random.nextBoolean())
+                character.levelUp();
+            else
+                equipRandomWeapon(character);
+        }
+
+        // Assert
+        List<Character> expected = sortedByDps(roster);
+        for (int rank = 0; rank < ROSTER_SIZE; rank++) {
+            assertEquals(rank, leaderboard.rankOf(expected.get(rank)));
+            assertSame(expected.get(rank), leaderboard.get(rank).character());
+        }
+    }
+
+    @Test
+    void classRankOf_ReturnsRankWithinClass() {
+        // Arrange
+        List<Character> mages = sortedByDps(roster.stream().filter(c -> c.getCharacterClass() == CharacterClass.MAGE).toList());
+
+        // Act
+        int rank = leaderboard.classRankOf(mages.get(3));
+
+        // Assert
+        assertEquals(3, rank);
+        assertSame(mages.get(3), leaderboard.get(CharacterClass.MAGE, 3).character());
+    }
+
+    @Test
+    void remove_StopsRankingAndFollowingCharacter() {
+        // Arrange
+        Character removed = roster.get(0);
+
+        // Act
+        leaderboard.remove(removed);
+        removed.levelUp();
+
+        // Assert
+        assertEquals(-1, leaderboard.rankOf(removed));
+        assertEquals(ROSTER_SIZE - 1, leaderboard.size());
+        assertFalse(characters(leaderboard.top(ROSTER_SIZE)).contains(removed));
+    }
+
+    @Test
+    void top_WhenWritersUpdateConcurrently_ReadersSeeSortedSnapshots() throws InterruptedException {
+        // Arrange
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            try {
+                while (running.get()) {
+                    List<LeaderboardEntry> top = leaderboard.top(ROSTER_SIZE);
+                    assertEquals(ROSTER_SIZE, top.size());
+                    for (int i = 1; i < top.size(); i++)
+                        assertTrue(top.get(i - 1).compareTo(top.get(i)) < 0);
+                    assertTrue(leaderboard.rankOf(roster.get(7)) >= 0);
+                }
+            } catch (Throwable t) {
+                failure.set(t);
+            }
+        });
+
+        // Act
+        reader.start();
+        for (int i = 0; i < 5000; i++)
+            equipRandomWeapon(roster.get(random.nextInt(ROSTER_SIZE)));
+        running.set(false);
+        reader.join();
+
+        // Assert
+        assertNull(failure.get());
+    }
+
+    private void equipRandomWeapon(Character character) {
+        character.equip(new Weapon("Weapon", 1, character.getValidWeaponTypes().get(0), 1 + random.nextInt(50), 0.5 + random.nextInt(10) / 10d));
+    }
+
+    private static List<Character> sortedByDps(List<Character> characters) {
+        // Stable sort keeps insertion order for equal DPS, matching the leaderboard's tie break
+        List<Character> sorted = new ArrayList<>(characters);
+        sorted.sort(Comparator.comparingDouble(Character::dpsAsDouble).reversed());
+        return sorted;
+    }
+
+    private static List<Character> characters(List<LeaderboardEntry> entries) {
+        return entries.stream().map(LeaderboardEntry::character).toList();
+    }
+
+}
@@ -0,0 +1,144 @@
+package com.jorgsaa.metrics;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.codec.CharacterCodec;
+import com.jorgsaa.item.EquipResult;
+import com.jorgsaa.item.ItemExceptionType;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.armor.InvalidArmorException;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharacterMetricsTest {
+
+    private Warrior warrior;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        CharacterMetrics.reset();
+        CharacterMetrics.setEnabled(true);
+        warrior = new Warrior("Warrior");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        CharacterMetrics.setEnabled(false);
+        CharacterMetrics.reset();
+    }
+
+    @Test
+    void equip_CountsAttemptsBySlotAndOutcome() {
+        // Arrange
+        Armor plate = new Armor("Plate", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(1, 0, 0));
+        Armor cloth = new Armor("Cloth", 1, Slot.BODY, ArmorType.CLOTH, PrimaryAttribute.of(0, 0, 1));
+        Weapon highLevelAxe = new Weapon("Axe", 10, WeaponType.AXE, 7d, 1.1d);
+
+        // Act
+        warrior.equip(plate);
+        assertThrows(InvalidArmorException.class, () -> warrior.equip(cloth));
+        warrior.tryEquip(highLevelAxe);
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(1, snapshot.equips(Slot.BODY, EquipResult.EQUIPPED));
+        assertEquals(1, snapshot.equips(Slot.BODY, EquipResult.CLASS_INCOMPATIBLE));
+        assertEquals(1, snapshot.equips(Slot.WEAPON, EquipResult.LEVEL_INSUFFICIENT));
+        assertEquals(2, snapshot.equips(Slot.BODY));
+        assertEquals(1, snapshot.rejections(ItemExceptionType.CLASS_INCOMPATIBLE));
+        assertEquals(1, snapshot.rejections(ItemExceptionType.LEVEL_INSUFFICIENT));
+        assertEquals(0, snapshot.rejections(ItemExceptionType.SLOT_INCOMPATIBLE));
+    }
+
+    @Test
+    void levelUp_CountsLevelUpsAndLevelChanges() {
+        // Act
+        warrior.levelUp();
+        warrior.levelUp();
+        warrior.setLevel(10);
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(2, snapshot.levelUps());
+        assertEquals(3, snapshot.levelChanges());
+    }
+
+    @Test
+    void decode_WhenRestoringSavedCharacter_DoesNotCountLevelChanges() {
+        // Arrange
+        CharacterMetrics.setEnabled(false);
+        warrior.setLevel(10);
+        ByteBuffer encoded = ByteBuffer.allocate(CharacterCodec.encodedSize(warrior));
+        CharacterCodec.encode(warrior, encoded);
+        encoded.flip();
+        CharacterMetrics.setEnabled(true);
+
+        // Act
+        Character decoded = CharacterCodec.decode(encoded);
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(10, decoded.getLevel());
+        assertEquals(0, snapshot.levelChanges());
+    }
+
+    @Test
+    void getDPS_TracksCacheHitRatioAndLatency() {
+        // Act
+        warrior.getDPS();
+        warrior.getDPS();
+        warrior.getDPS();
+        warrior.levelUp();
+        warrior.getDPS();
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(2, snapshot.dpsComputations());
+        assertEquals(2, snapshot.dpsCacheHits());
+        assertEquals(0.5, snapshot.dpsCacheHitRatio());
+        assertTrue(snapshot.dpsLatencyQuantile(1) > 0);
+    }
+
+    @Test
+    void snapshot_WhenDisabled_RecordsNothing() {
+        // Arrange
+        CharacterMetrics.setEnabled(false);
+
+        // Act
+        warrior.levelUp();
+        warrior.getDPS();
+        warrior.equip(new Weapon("Axe", 1, WeaponType.AXE, 7d, 1.1d));
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(0, snapshot.levelChanges());
+        assertEquals(0, snapshot.dpsComputations());
+        assertEquals(0, snapshot.equips(Slot.WEAPON));
+        assertEquals(0, snapshot.dpsLatencyQuantile(0.99));
+    }
+
+    @Test
+    void dpsLatencyQuantile_ReturnsUpperBoundOfBucket() {
+        // Act
+        CharacterMetrics.dpsComputed(100);
+        CharacterMetrics.dpsComputed(100);
+        CharacterMetrics.dpsComputed(5000);
+
+        // Assert
+        MetricsSnapshot snapshot = CharacterMetrics.snapshot();
+        assertEquals(128, snapshot.dpsLatencyQuantile(0.5));
+        assertEquals(8192, snapshot.dpsLatencyQuantile(0.99));
+    }
+
+}
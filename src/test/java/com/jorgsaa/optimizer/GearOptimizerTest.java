@@ -0,0 +1,146 @@
+package com.jorgsaa.optimizer;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.Mage;
+import com.jorgsaa.item.Item;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.catalog.ItemCatalog;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GearOptimizerTest {
+
+    private GearOptimizer optimizer;
+    private List<Item> catalog;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        optimizer = new GearOptimizer();
+        catalog = new ArrayList<>();
+        Random random = new Random(42);
+        Slot[] armorSlots = {Slot.HEAD, Slot.BODY, Slot.LEGS};
+        for (int i = 0; i < 400; i++) {
+            catalog.add(new Armor("Armor " + i, random.nextInt(20), armorSlots[i % 3],
+                    ArmorType.values()[random.nextInt(ArmorType.values().length)],
+                    PrimaryAttribute.of(random.nextInt(20) - 2, random.nextInt(20) - 2, random.nextInt(20) - 2)));
+            catalog.add(new Weapon("Weapon " + i, random.nextInt(20),
+                    WeaponType.values()[random.nextInt(WeaponType.values().length)],
+                    random.nextInt(20), 0.5 + random.nextDouble()));
+        }
+    }
+
+    @Test
+    void optimize_ForEveryClass_MatchesBruteForce() {
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            // Arrange
+            Character character = characterClass.newCharacter("Character");
+            character.setLevel(10);
+
+            // Act
+            Loadout loadout = optimizer.optimize(character, catalog);
+            loadout.equipTo(character);
+
+            // Assert
+            assertEquals(bruteForceDPS(characterClass, 10), loadout.dps(), 1e-9);
+            assertEquals(loadout.dps(), character.dpsAsDouble(), 1e-9);
+        }
+    }
+
+    @Test
+    void optimize_WhenItemCatalog_MatchesFullScan() {
+        // Arrange
+        ItemCatalog itemCatalog = ItemCatalog.of(catalog);
+
+        for (CharacterClass characterClass : CharacterClass.values()) {
+            Character character = characterClass.newCharacter("Character");
+            character.setLevel(7);
+
+            // Act
+            Loadout indexed = optimizer.optimize(character, itemCatalog);
+            Loadout scanned = optimizer.optimize(character, (Iterable<Item>) catalog);
+
+            // Assert
+            assertEquals(scanned.dps(), indexed.dps());
+        }
+    }
+
+    @Test
+    void optimize_WhenNoLegalItems_KeepsCurrentEquipment() {
+        // Arrange
+        Mage mage = new Mage("Mage");
+        Weapon wand = new Weapon("Wand", 1, WeaponType.WAND, 2d, 1d);
+        mage.equip(wand);
+        List<Item> plate = List.of(new Armor("Plate helm", 1, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(50, 50, 50)));
+
+        // Act
+        Loadout loadout = optimizer.optimize(mage, plate);
+
+        // Assert
+        assertSame(wand, loadout.get(Slot.WEAPON));
+        assertNull(loadout.get(Slot.HEAD));
+        assertEquals(mage.dpsAsDouble(), loadout.dps());
+    }
+
+    private double bruteForceDPS(CharacterClass characterClass, int level) {
+        List<List<Item>> perSlot = new ArrayList<>();
+        for (Slot slot : Slot.values()) {
+            List<Item> legal = new ArrayList<>();
+            legal.add(null);
+            for (Item item : catalog) {
+                Character probe = characterClass.newCharacter("Probe");
+                probe.setLevel(level);
+                try {
+                    if (item.getSlot() == slot) {
+                        probe.equip(item);
+                        legal.add(item);
+                    }
+                } catch (RuntimeException ignored) {
+                    // Not equippable by this class at this level
+                }
+            }
+            perSlot.add(legal);
+        }
+
+        double best = Double.NEGATIVE_INFINITY;
+        for (Item head : perSlot.get(0))
+            for (Item body : perSlot.get(1))
+                for (Item legs : perSlot.get(2)) {
+                    for (Item weapon : bestWeapons(perSlot.get(3))) {
+                        Character character = characterClass.newCharacter("Candidate");
+                        character.setLevel(level);
+                        for (Item item : new Item[]{head, body, legs, weapon})
+                            if (item != null)
+                                character.equip(item);
+                        best = Math.max(best, character.dpsAsDouble());
+                    }
+                }
+        return best;
+    }
+
+    private static List<Item> bestWeapons(List<Item> weapons) {
+        // DPS is monotonic in weapon DPS, so only the strongest weapon (or none) needs checking
+        Item best = null;
+        for (Item item : weapons)
+            if (item != null && (best == null || ((Weapon) item).dpsAsDouble() > ((Weapon) best).dpsAsDouble()))
+                best = item;
+        List<Item> result = new ArrayList<>();
+        result.add(null);
+        if (best != null)
+            result.add(best);
+        return result;
+    }
+
+}
@@ -0,0 +1,259 @@
+package com.jorgsaa.replication;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.codec.CharacterCodec;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationTest {
+
+    private ItemRegistry items;
+    private Warrior warrior;
+    private ChangeTracker tracker;
+    private Replica replica;
+    private Armor helmet;
+    private Armor platebody;
+    private Weapon axe;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        items = new ItemRegistry();
+        helmet = new Armor("Common plate helmet", 1, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(1, 0, 0));
+        platebody = new Armor("Common plate body", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(2, 0, 0));
+        axe = new Weapon("Common axe", 1, WeaponType.AXE, 7d, 1.1d);
+        warrior = new Warrior("Warrior");
+        warrior.equip(helmet);
+        replica = new Replica(3, copy(warrior), items, 0);
+        tracker = ChangeTracker.attach(warrior, 3, items);
+    }
+
+    @Test
+    void flush_WhenBurstOfChanges_CoalescesIntoOneDelta() {
+        // Arrange
+        warrior.levelUp();
+        warrior.levelUp();
+        warrior.equip(new Weapon("Rusty axe", 1, WeaponType.AXE, 2d, 1d));
+        warrior.equip(axe);
+        warrior.equip(platebody);
+
+        // Act
+        ByteBuffer delta = tracker.flush();
+
+        // Assert
+        assertNotNull(delta);
+        assertNull(tracker.flush());
+        assertEquals(1, tracker.getVersion());
+        // Header, level and two item ids
+        assertEquals(1 + 1 + 1 + 1 + 1 + 2, delta.remaining());
+    }
+
+    @Test
+    void flush_WhenChangesAreReverted_WritesNothing() {
+        // Arrange
+        warrior.setLevel(20);
+        warrior.setLevel(1);
+        warrior.equip(platebody);
+        Armor otherHelmet = new Armor("Other helmet", 1, Slot.HEAD, ArmorType.PLATE, PrimaryAttribute.of(5, 0, 0));
+        warrior.equip(otherHelmet);
+        warrior.equip(helmet);
+        tracker.flush();
+        warrior.equip(helmet);
+
+        // Act
+        ByteBuffer delta = tracker.flush();
+
+        // Assert
+        assertNull(delta);
+        assertEquals(1, tracker.getVersion());
+    }
+
+    @Test
+    void apply_WhenDeltasAppliedInOrder_ReplicaMatchesCharacter() {
+        // Act
+        warrior.equip(axe);
+        replica.apply(tracker.flush());
+        warrior.setLevel(12);
+        warrior.equip(platebody);
+        replica.apply(tracker.flush());
+
+        // Assert
+        Character copy = replica.getCharacter();
+        assertEquals(2, replica.getVersion());
+        assertEquals(warrior.getLevel(), copy.getLevel());
+        assertEquals(warrior.getTotalPrimaryAttributes(), copy.getTotalPrimaryAttributes());
+        assertEquals(warrior.dpsAsDouble(), copy.dpsAsDouble());
+        assertEquals(warrior.toString(), copy.toString());
+    }
+
+    @Test
+    void apply_WhenVersionIsSkipped_ThrowsExceptionAndKeepsReplica() {
+        // Arrange
+        warrior.levelUp();
+        tracker.flush();
+        warrior.levelUp();
+        ByteBuffer second = tracker.flush();
+
+        // Assert
+        assertThrows(IllegalStateException.class, () -> replica.apply(second));
+        assertEquals(0, replica.getVersion());
+        assertEquals(1, replica.getCharacter().getLevel());
+    }
+
+    @Test
+    void apply_WhenDeltaIsForAnotherCharacter_ThrowsException() {
+        // Arrange
+        Replica other = new Replica(4, copy(warrior), items, 0);
+        warrior.levelUp();
+        ByteBuffer delta = tracker.flush();
+
+        // Assert
+        assertEquals(3, Replica.peekCharacterId(delta));
+        assertThrows(IllegalStateException.class, () -> other.apply(delta));
+    }
+
+    @Test
+    void apply_WhenDeltaIsTruncated_LeavesReplicaUnchanged() {
+        // Arrange
+        warrior.levelUp();
+        warrior.equip(axe);
+        ByteBuffer delta = tracker.flush();
+        ByteBuffer truncated = delta.duplicate().limit(delta.limit() - 1);
+
+        // Assert
+        assertThrows(RuntimeException.class, () -> replica.apply(truncated));
+        assertEquals(0, truncated.position());
+        assertEquals(0, replica.getVersion());
+        assertEquals(1, replica.getCharacter().getLevel());
+        assertNull(replica.getCharacter().getEquipment(Slot.WEAPON));
+    }
+
+    @Test
+    void apply_WhenItemIdIsUnknown_LeavesReplicaUnchanged() {
+        // Arrange
+        Replica unaware = new Replica(3, copy(warrior), new ItemRegistry(), 0);
+        warrior.levelUp();
+        warrior.equip(axe);
+        ByteBuffer delta = tracker.flush();
+
+        // Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> unaware.apply(delta));
+        assertEquals(0, unaware.getVersion());
+        assertEquals(1, unaware.getCharacter().getLevel());
+    }
+
+    @Test
+    void encode_WhenNotAcknowledged_EncodesSameVersionAgainWithLaterChanges() {
+        // Arrange
+        warrior.levelUp();
+        tracker.encode(ByteBuffer.allocate(ChangeTracker.MAX_DELTA_SIZE));
+        warrior.equip(axe);
+
+        // Act
+        ByteBuffer retry = ByteBuffer.allocate(ChangeTracker.MAX_DELTA_SIZE);
+        tracker.encode(retry);
+        tracker.acknowledge();
+        replica.apply(retry.flip());
+
+        // Assert
+        assertEquals(1, tracker.getVersion());
+        assertNull(tracker.flush());
+        assertEquals(warrior.toString(), replica.getCharacter().toString());
+    }
+
+    @Test
+    void flush_WhenSinkFails_KeepsDeltaForNextFlush() {
+        // Arrange
+        List<ByteBuffer> deltas = new ArrayList<>();
+        boolean[] failNext = {true};
+        Warrior tracked = new Warrior("Tracked");
+        Replica trackedReplica = new Replica(8, copy(tracked), items, 0);
+
+        try (DeltaPublisher publisher = new DeltaPublisher(items, 1, TimeUnit.HOURS, delta -> {
+            if (failNext[0]) {
+                failNext[0] = false;
+                throw new IllegalStateException("Sink unavailable");
+            }
+            deltas.add(ByteBuffer.allocate(delta.remaining()).put(delta).flip());
+        })) {
+            ChangeTracker trackedTracker = publisher.track(tracked, 8);
+            tracked.levelUp();
+
+            // Act
+            publisher.flush();
+            publisher.flush();
+
+            // Assert
+            assertEquals(1, trackedTracker.getVersion());
+        }
+        assertEquals(1, deltas.size());
+        trackedReplica.apply(deltas.get(0));
+        assertEquals(2, trackedReplica.getCharacter().getLevel());
+    }
+
+    @Test
+    void flush_WhenPublishedOnInterval_CoalescesBurstsAndSurvivesSinkFailure() throws InterruptedException {
+        // Arrange
+        BlockingQueue<ByteBuffer> deltas = new LinkedBlockingQueue<>();
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        Warrior tracked = new Warrior("Tracked");
+        Replica trackedReplica = new Replica(8, copy(tracked), items, 0);
+
+        try (DeltaPublisher publisher = new DeltaPublisher(items, 10, TimeUnit.MILLISECONDS, delta -> {
+            if (failNext.getAndSet(false))
+                throw new IllegalStateException("Sink unavailable");
+            deltas.add(ByteBuffer.allocate(delta.remaining()).put(delta).flip());
+        })) {
+            publisher.track(tracked, 8);
+
+            // Act
+            // Holding the publisher's lock keeps the scheduled flush out until the burst is complete
+            synchronized (publisher) {
+                tracked.levelUp();
+                tracked.levelUp();
+                tracked.equip(axe);
+            }
+            ByteBuffer first = deltas.poll(5, TimeUnit.SECONDS);
+            synchronized (publisher) {
+                tracked.equip(platebody);
+                tracked.setLevel(9);
+            }
+            ByteBuffer second = deltas.poll(5, TimeUnit.SECONDS);
+
+            // Assert
+            assertNotNull(first);
+            assertNotNull(second);
+            trackedReplica.apply(first);
+            assertEquals(3, trackedReplica.getCharacter().getLevel());
+            trackedReplica.apply(second);
+        }
+        assertTrue(deltas.isEmpty());
+        assertEquals(2, trackedReplica.getVersion());
+        assertEquals(tracked.toString(), trackedReplica.getCharacter().toString());
+    }
+
+    private Character copy(Character character) {
+        ByteBuffer buffer = ByteBuffer.allocate(CharacterCodec.encodedSize(character, items));
+        CharacterCodec.encode(character, items, buffer);
+        return CharacterCodec.decode(buffer.flip(), items);
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.jorgsaa.report;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.Mage;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReportRendererTest {
+
+    private ReportRenderer renderer;
+    private Warrior warrior;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        renderer = new ReportRenderer();
+        warrior = new Warrior("Warrior");
+        warrior.setLevel(5);
+        warrior.equip(new Armor("Common plate body armor", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(1, 0, 0)));
+        warrior.equip(new Weapon("Common axe", 1, WeaponType.AXE, 7d, 1.1d));
+    }
+
+    @Test
+    void render_WhenCharacterIsEquipped_MatchesToString() throws IOException {
+        // Arrange
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        renderer.render(warrior, out);
+
+        // Assert
+        assertEquals(warrior.toString(), out.toString());
+    }
+
+    @Test
+    void render_WhenWeaponStatsAreArbitrary_MatchesToString() throws IOException {
+        // Arrange
+        Random random = new Random(17);
+
+        for (int i = 0; i < 10_000; i++) {
+            double damage = random.nextInt(4) == 0 ? random.nextInt(1000) / 8d : random.nextDouble() * Math.pow(10, random.nextInt(12) - 3);
+            Weapon weapon = new Weapon("Weapon " + i, i, WeaponType.SWORD, damage, random.nextDouble() * 3);
+            StringBuilder out = new StringBuilder();
+
+            // Act
+            renderer.render(weapon, out);
+
+            // Assert
+            assertEquals(weapon.toString(), out.toString());
+        }
+    }
+
+    @Test
+    void render_WhenValuesAreRoundingMidpoints_MatchesStringFormat() throws IOException {
+        // Arrange
+        Weapon weapon = new Weapon("Midpoints", 1, WeaponType.WAND, 1.0000005d, 0.0000025d);
+        Mage mage = new Mage("Mage");
+        mage.equip(new Weapon("Staff", 1, WeaponType.STAFF, 1.005d, 1d));
+        StringBuilder weaponOut = new StringBuilder();
+        StringBuilder mageOut = new StringBuilder();
+
+        // Act
+        renderer.render(weapon, weaponOut);
+        renderer.render(mage, mageOut);
+
+        // Assert
+        assertEquals(weapon.toString(), weaponOut.toString());
+        assertEquals(mage.toString(), mageOut.toString());
+    }
+
+    @Test
+    void render_WhenMidpointUnderNonEnglishLocale_UsesDecimalPoint() throws IOException {
+        // Arrange
+        Weapon weapon = new Weapon("Midpoints", 1, WeaponType.WAND, 1.0000005d, 0.0000025d);
+        StringBuilder expected = new StringBuilder();
+        StringBuilder out = new StringBuilder();
+        Locale defaultLocale = Locale.getDefault();
+        renderer.render(weapon, expected);
+
+        // Act
+        Locale.setDefault(Locale.GERMANY);
+        try {
+            renderer.render(weapon, out);
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+
+        // Assert
+        assertEquals(expected.toString(), out.toString());
+        assertFalse(out.toString().contains(","));
+    }
+
+    @Test
+    void render_WhenDefaultLocaleUsesDecimalComma_MatchesToString() throws IOException {
+        // Arrange
+        Mage mage = new Mage("Mage");
+        mage.equip(new Weapon("Staff", 1, WeaponType.STAFF, 1.005d, 1d));
+        StringBuilder warriorOut = new StringBuilder();
+        StringBuilder mageOut = new StringBuilder();
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.GERMANY);
+
+        try {
+            // Act
+            renderer.render(warrior, warriorOut);
+            renderer.render(mage, mageOut);
+
+            // Assert
+            assertEquals(warrior.toString(), warriorOut.toString());
+            assertEquals(mage.toString(), mageOut.toString());
+            assertFalse(mageOut.toString().contains(","));
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void render_WhenAttributesAreNegativeOrWide_MatchesToString() throws IOException {
+        // Arrange
+        List<PrimaryAttribute> attributes = List.of(
+                PrimaryAttribute.of(-5, 0, 12345),
+                PrimaryAttribute.of(Integer.MIN_VALUE, Integer.MAX_VALUE, 7));
+
+        for (PrimaryAttribute attribute : attributes) {
+            StringBuilder out = new StringBuilder();
+
+            // Act
+            renderer.render(attribute, out);
+
+            // Assert
+            assertEquals(attribute.toString(), out.toString());
+        }
+    }
+
+    @Test
+    void renderRoster_WhenWrittenToChannel_ProducesUtf8Report() throws IOException {
+        // Arrange
+        Character mage = new Mage("Mågë 🧙");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        // Act
+        try (var channel = Channels.newChannel(bytes)) {
+            renderer.renderRoster(List.of(warrior, mage), channel);
+        }
+
+        // Assert
+        String expected = warrior + "\n" + mage + "\n";
+        assertEquals(expected, bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void append_WhenBufferIsSmallerThanReport_FlushesEveryByte() throws IOException {
+        // Arrange
+        Character mage = new Mage("Mågë 🧙");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ChannelAppender out = new ChannelAppender(Channels.newChannel(bytes), ByteBuffer.allocate(4));
+
+        // Act
+        renderer.render(mage, out);
+        out.flush();
+
+        // Assert
+        assertEquals(mage.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+}
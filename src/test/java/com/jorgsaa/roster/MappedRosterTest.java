@@ -0,0 +1,135 @@
+package com.jorgsaa.roster;
+
+import com.jorgsaa.attribute.PrimaryAttribute;
+import com.jorgsaa.character.Character;
+import com.jorgsaa.character.CharacterClass;
+import com.jorgsaa.character.Warrior;
+import com.jorgsaa.item.ItemRegistry;
+import com.jorgsaa.item.Slot;
+import com.jorgsaa.item.armor.Armor;
+import com.jorgsaa.item.armor.ArmorType;
+import com.jorgsaa.item.weapon.Weapon;
+import com.jorgsaa.item.weapon.WeaponType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedRosterTest {
+
+    @TempDir
+    Path directory;
+
+    private Path file;
+    private ItemRegistry items;
+    private Armor armor;
+    private Weapon weapon;
+
+    @BeforeEach
+    public void setUp() {
+        // Arrange
+        file = directory.resolve("roster.bin");
+        items = new ItemRegistry();
+        armor = new Armor("Steel platebody", 1, Slot.BODY, ArmorType.PLATE, PrimaryAttribute.of(10, 0, 0));
+        weapon = new Weapon("Steel axe", 1, WeaponType.AXE, 10d, 1.4d);
+        items.register(armor);
+        items.register(weapon);
+    }
+
+    @Test
+    void open_AfterClose_RestoresCharacters() throws IOException {
+        // Arrange
+        Warrior warrior = new Warrior("Wårrior");
+        warrior.setLevel(9);
+        warrior.equip(armor);
+        warrior.equip(weapon);
+
+        try (MappedRoster roster = MappedRoster.create(file, 10, 256)) {
+            roster.add(CharacterClass.MAGE, "Mage");
+            roster.add(warrior, items);
+        }
+
+        // Act
+        try (MappedRoster roster = MappedRoster.open(file)) {
+            Character restored = roster.toCharacter(1, items);
+
+            // Assert
+            assertEquals(2, roster.size());
+            assertEquals("Mage", roster.getName(0));
+            assertEquals(CharacterClass.MAGE, roster.getCharacterClass(0));
+            assertEquals(warrior.toString(), restored.toString());
+        }
+    }
+
+    @Test
+    void setLevel_UpdatesRecordInPlace() throws IOException {
+        // Arrange
+        try (MappedRoster roster = MappedRoster.create(file, 10, 256)) {
+            int index = roster.add(CharacterClass.WARRIOR, "Warrior");
+
+            // Act
+            roster.setLevel(index, 30);
+            roster.setItemId(index, Slot.WEAPON, items.idOf(weapon));
+        }
+
+        // Assert
+        try (MappedRoster roster = MappedRoster.open(file)) {
+            assertEquals(30, roster.getLevel(0));
+            assertSame(weapon, items.get(roster.getItemId(0, Slot.WEAPON)));
+            assertEquals(ItemRegistry.NO_ITEM, roster.getItemId(0, Slot.HEAD));
+        }
+    }
+
+    @Test
+    void add_WhenFull_ThrowsException() throws IOException {
+        try (MappedRoster roster = MappedRoster.create(file, 1, 256)) {
+            // Act
+            roster.add(CharacterClass.ROGUE, "Rogue");
+
+            // Assert
+            assertThrows(IllegalStateException.class, () -> roster.add(CharacterClass.ROGUE, "Rogue"));
+        }
+    }
+
+    @Test
+    void open_WhenNotRosterFile_ThrowsException() throws IOException {
+        // Arrange
+        Files.write(file, new byte[64]);
+
+        // Assert
+        assertThrows(IOException.class, () -> MappedRoster.open(file));
+    }
+
+    @Test
+    void open_WhenFileIsTruncated_ThrowsException() throws IOException {
+        // Arrange
+        MappedRoster.create(file, 16, 256).close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(64);
+        }
+
+        // Assert
+        assertThrows(IOException.class, () -> MappedRoster.open(file));
+    }
+
+    @Test
+    void open_WhenSizeExceedsCapacity_ThrowsException() throws IOException {
+        // Arrange
+        MappedRoster.create(file, 1, 256).close();
+        final byte[] bytes = Files.readAllBytes(file);
+        ByteBuffer.wrap(bytes).putInt(12, 2);
+        Files.write(file, bytes);
+
+        // Assert
+        assertThrows(IOException.class, () -> MappedRoster.open(file));
+    }
+
+}
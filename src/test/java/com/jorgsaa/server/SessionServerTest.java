@@ -0,0 +1,153 @@
+package com.jorgsaa.server;
+
+import com.jorgsaa.item.ItemRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionServerTest {
+
+    private ItemRegistry items;
+    private SessionServer server;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        // Arrange
+        items = LoadDriver.sampleItems();
+        server = SessionServer.start(items);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void handle_WhenCommandsAreValid_DrivesCharacter() {
+        // Arrange
+        Session session = new Session(items);
+
+        // Act
+        String created = session.handle("NEW WARRIOR Conan the Barbarian");
+        String levelled = session.handle("LEVELUP");
+        String inspected = session.handle("INSPECT");
+
+        // Assert
+        assertEquals("OK", created);
+        assertEquals("OK 2", levelled);
+        assertEquals("Conan the Barbarian", session.getCharacter().getName());
+        assertEquals("OK WARRIOR 2 8 4 2 " + session.getCharacter().dpsAsDouble(), inspected);
+    }
+
+    @Test
+    void handle_WhenItemRejected_ReturnsEquipResult() {
+        // Arrange
+        Session session = new Session(items);
+        session.handle("NEW MAGE Merlin");
+        int highLevelItem = items.size() - 1;
+
+        // Act
+        String response = session.handle("EQUIP " + highLevelItem);
+
+        // Assert
+        assertTrue(response.startsWith("ERR "), response);
+        assertEquals("ERR " + session.getCharacter().canEquip(items.get(highLevelItem)), response);
+    }
+
+    @Test
+    void handle_WhenRequestIsInvalid_ReturnsError() {
+        // Arrange
+        Session session = new Session(items);
+
+        // Assert
+        assertEquals("ERR NO_CHARACTER", session.handle("INSPECT"));
+        assertEquals("ERR UNKNOWN_CLASS", session.handle("NEW PALADIN Arthur"));
+        assertEquals("ERR UNKNOWN_COMMAND", session.handle("DANCE"));
+        session.handle("NEW ROGUE Robin");
+        assertEquals("ERR BAD_ARGUMENT", session.handle("LEVEL many"));
+        assertEquals("ERR UNKNOWN_ITEM", session.handle("EQUIP -1"));
+    }
+
+    @Test
+    void handle_WhenLevelUpWouldOverflow_ReturnsErrorAndKeepsLevel() {
+        // Arrange
+        Session session = new Session(items);
+        session.handle("NEW WARRIOR Conan");
+        session.handle("LEVEL " + Integer.MAX_VALUE);
+
+        // Act
+        String response = session.handle("LEVELUP");
+
+        // Assert
+        assertEquals("ERR BAD_ARGUMENT", response);
+        assertEquals(Integer.MAX_VALUE, session.getCharacter().getLevel());
+    }
+
+    @Test
+    void connection_WhenClientSendsLines_RespondsPerLineAndClosesOnQuit() throws IOException {
+        // Arrange
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+
+            // Act
+            out.println("NEW RANGER Legolas");
+            String created = in.readLine();
+            out.println("ITEMS");
+            String count = in.readLine();
+            out.println("QUIT");
+            String bye = in.readLine();
+
+            // Assert
+            assertEquals("OK", created);
+            assertEquals("OK " + items.size(), count);
+            assertEquals("BYE", bye);
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    void connection_WhenLineIsTooLong_RespondsWithErrorAndCloses() throws IOException {
+        // Arrange
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+
+            // Act
+            out.println("NEW MAGE " + "M".repeat(SessionServer.MAX_LINE_LENGTH - "NEW MAGE ".length()));
+            String created = in.readLine();
+            out.print("A".repeat(SessionServer.MAX_LINE_LENGTH + 1));
+            out.flush();
+            String response = in.readLine();
+
+            // Assert
+            assertEquals("OK", created);
+            assertEquals("ERR LINE_TOO_LONG", response);
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    void run_WhenManySessionsAreConcurrent_CompletesEveryRequest() throws InterruptedException {
+        // Act
+        LoadDriver.Report report = LoadDriver.run(new InetSocketAddress("127.0.0.1", server.getPort()), 200, 20, 7);
+
+        // Assert
+        assertEquals(0, report.failedSessions());
+        assertEquals(200 * 20, report.requests());
+        assertTrue(report.p50Nanos() <= report.p99Nanos());
+        assertTrue(report.p99Nanos() <= report.maxNanos());
+        assertTrue(server.getRequestCount() >= 200 * 23);
+    }
+
+}